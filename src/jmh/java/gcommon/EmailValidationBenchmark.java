@@ -0,0 +1,79 @@
+package gcommon;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link ValidationUtil#isValidEmail(String)}, compared against the original regular expression, on
+ * both typical and adversarial input.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    /**
+     * The original (backtracking) regular expression.
+     */
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*@(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?");
+
+    /**
+     * Kind of input: a typical valid address, or one crafted to trigger backtracking.
+     */
+    @Param({"valid", "hyphens", "labels"})
+    public String input;
+
+    private String email;
+
+    @Setup
+    public void setup() {
+        StringBuilder buf = new StringBuilder();
+        switch (input) {
+            case "hyphens":
+                buf.append("a@");
+                while (buf.length() < 250) {
+                    buf.append("a-");
+                }
+                email = buf.append('!').toString();
+                break;
+
+            case "labels":
+                buf.append("a@");
+                while (buf.length() < 250) {
+                    buf.append("a.");
+                }
+                email = buf.append('!').toString();
+                break;
+
+            default:
+                email = "john.doe+newsletter@mail.example.com";
+        }
+    }
+
+    @Benchmark
+    public boolean reference() {
+        return email.length() <= 256 && REFERENCE_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean stateMachine() {
+        return ValidationUtil.isValidEmail(email);
+    }
+}
@@ -0,0 +1,91 @@
+package gcommon;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of hexadecimal encoding/decoding in {@link StringUtils}, compared against the original nibble-based
+ * encoder.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HexEncodingBenchmark {
+
+    /**
+     * Hexadecimal digits used by the reference encoder.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Size of data to encode (16 = MD5, 32 = SHA-256, 1024 = bulk).
+     */
+    @Param({"16", "32", "1024"})
+    public int size;
+
+    private byte[] data;
+
+    private String hex;
+
+    private char[] charBuffer;
+
+    private byte[] byteBuffer;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        new Random(size).nextBytes(data);
+        hex = StringUtils.toString(data);
+        charBuffer = new char[size * 2];
+        byteBuffer = new byte[size];
+    }
+
+    /**
+     * Reference: the original implementation (one table access per nibble, {@code char[]} copied into a string).
+     */
+    @Benchmark
+    public String encodeReference() {
+        char[] characters = new char[data.length * 2];
+        for (int index = 0; index < data.length; index++) {
+            int value = ((int) data[index]) & 0xFF;
+            characters[index * 2] = HEX_DIGITS[value >> 4];
+            characters[index * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        }
+
+        return new String(characters);
+    }
+
+    @Benchmark
+    public String encodeToString() {
+        return StringUtils.toString(data);
+    }
+
+    @Benchmark
+    public char[] encodeToCharArray() {
+        StringUtils.encodeHex(data, 0, data.length, charBuffer, 0);
+        return charBuffer;
+    }
+
+    @Benchmark
+    public byte[] decodeToByteArray() {
+        StringUtils.decodeHex(hex, 0, hex.length(), byteBuffer, 0);
+        return byteBuffer;
+    }
+}
@@ -0,0 +1,95 @@
+package gcommon;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link StringUtils#formats(String, Object...)} and {@link ValidationUtil#isValidEmail(String)}, by a
+ * single thread and by several threads sharing the format template cache. Hexadecimal encoding
+ * ({@link StringUtils#toString(byte[])}) is covered by {@link HexEncodingBenchmark}. Each benchmark takes its input
+ * from its own state, so only formatting benchmarks are parameterized by format.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    @Benchmark
+    public String formats(FormatInput input) {
+        return StringUtils.formats(input.pattern, input.arguments);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String formatsContended(FormatInput input) {
+        return StringUtils.formats(input.pattern, input.arguments);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean isValidEmailContended(EmailInput input) {
+        return ValidationUtil.isValidEmail(input.email);
+    }
+
+    /**
+     * Input of formatting benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class FormatInput {
+
+        /**
+         * Format to benchmark: plain text, string-only arguments, or mixed (numeric) arguments.
+         */
+        @Param({"plain", "strings", "mixed"})
+        public String format;
+
+        private String pattern;
+
+        private Object[] arguments;
+
+        @Setup
+        public void setup() {
+            switch (format) {
+                case "plain":
+                    pattern = "Operation completed successfully.";
+                    arguments = new Object[0];
+                    break;
+                case "strings":
+                    pattern = "User %s logged in from %s.";
+                    arguments = new Object[]{"john.doe", "10.0.0.1"};
+                    break;
+                case "mixed":
+                    pattern = "Request %s took %d ms (%.2f%% of budget).";
+                    arguments = new Object[]{"GET /index", 125L, 12.5d};
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown format: " + format);
+            }
+        }
+    }
+
+    /**
+     * Input of E-mail validation benchmark (held in a field, so the JIT cannot constant-fold it).
+     */
+    @State(Scope.Benchmark)
+    public static class EmailInput {
+
+        private String email = "john.doe@example.com";
+    }
+}
@@ -0,0 +1,67 @@
+package gcommon.annotation;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link MethodInvoker}, compared against {@link Method#invoke(Object, Object...)} and a direct call.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvocationBenchmark {
+
+    private final Listener listener = new Listener();
+
+    private final Object[] args = {"event"};
+
+    private Method method;
+
+    private MethodInvoker invoker;
+
+    @Setup
+    public void setup() throws Exception {
+        method = Listener.class.getMethod("onEvent", String.class);
+        invoker = MethodInvoker.of(listener, method);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return listener.onEvent((String) args[0]);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(listener, args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Exception {
+        return invoker.invoke(args);
+    }
+
+    public static class Listener {
+
+        private int count;
+
+        public int onEvent(String event) {
+            return count += event.length();
+        }
+    }
+}
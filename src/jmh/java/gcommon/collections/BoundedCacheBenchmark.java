@@ -0,0 +1,67 @@
+package gcommon.collections;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link BoundedCache} look-ups, by a single thread and by several threads, over a key space either
+ * fitting the cache or 4 times larger (so that look-ups miss and load).
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedCacheBenchmark {
+
+    private static final int CAPACITY = 10_000;
+
+    /**
+     * Size of key space, relative to cache capacity.
+     */
+    @Param({"1", "4"})
+    public int keySpaceFactor;
+
+    private BoundedCache<Integer, Integer> cache;
+
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        cache = new BoundedCache<>(CAPACITY);
+        keys = new Integer[CAPACITY * keySpaceFactor];
+        for (int index = 0; index < keys.length; index++) {
+            keys[index] = index;
+        }
+        for (int index = 0; index < CAPACITY; index++) {
+            cache.put(keys[index], index);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keys.length)], key -> key);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer getContended() {
+        return cache.get(keys[ThreadLocalRandom.current().nextInt(keys.length)], key -> key);
+    }
+}
@@ -0,0 +1,91 @@
+package gcommon.collections;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link TreeNode#getNode(Object)} and {@link TreeNode#getNode(Object[])} on a tree, per child
+ * storage strategy and fan-out, by a single thread and by several threads reading the same tree.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeLookupBenchmark {
+
+    /**
+     * Depth of tree (and length of looked-up path).
+     */
+    private static final int DEPTH = 4;
+
+    @Param({"COMPACT", "SORTED"})
+    public ChildStorage storage;
+
+    /**
+     * Number of children per node.
+     */
+    @Param({"4", "64"})
+    public int fanOut;
+
+    private TreeNode<String, Integer> root;
+
+    private String key;
+
+    private String[] path;
+
+    @Setup
+    public void setup() {
+        Tree<String, Integer> tree = new Tree<>(storage);
+        root = tree.getRoot();
+        populate(root, 1);
+
+        // Last child at each level, so sorted/linear look-ups do their full share of work.
+        key = "key-" + (fanOut - 1);
+        path = new String[DEPTH];
+        for (int level = 0; level < DEPTH; level++) {
+            path[level] = key;
+        }
+    }
+
+    @Benchmark
+    public TreeNode<String, Integer> getNode() {
+        return root.getNode(key);
+    }
+
+    @Benchmark
+    public TreeNode<String, Integer> getNodeByPath() {
+        return root.getNode(path);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TreeNode<String, Integer> getNodeByPathContended() {
+        return root.getNode(path);
+    }
+
+    private void populate(TreeNode<String, Integer> node, int level) {
+        // Only the last child of each level is expanded, keeping tree size linear in depth.
+        for (int index = 0; index < fanOut; index++) {
+            TreeNode<String, Integer> child = node.add("key-" + index, index);
+            if (level < DEPTH && index == fanOut - 1) {
+                populate(child, level + 1);
+            }
+        }
+    }
+}
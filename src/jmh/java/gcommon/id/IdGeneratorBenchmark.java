@@ -0,0 +1,55 @@
+package gcommon.id;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link SecureRandomIdGenerator#generate()}, by a single thread and by several threads sharing the same
+ * generator (and therefore the same underlying secure random source).
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    /**
+     * Size of generated token.
+     */
+    @Param({"16", "64"})
+    public int tokenSize;
+
+    private SecureRandomIdGenerator generator;
+
+    @Setup
+    public void setup() {
+        generator = new SecureRandomIdGenerator(tokenSize);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return generator.generate();
+    }
+}
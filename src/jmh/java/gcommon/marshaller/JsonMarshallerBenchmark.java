@@ -0,0 +1,138 @@
+package gcommon.marshaller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link JsonObjectMarshaller} marshalling and unmarshalling a simple bean, by a single thread and by
+ * several threads sharing the same marshaller, and of the same operations memoized by {@link CachingObjectMarshaller}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMarshallerBenchmark {
+
+    /**
+     * Number of tags in marshalled bean (controls size of payload).
+     */
+    @Param({"0", "16", "256"})
+    public int tags;
+
+    private final ObjectMarshaller marshaller = new JsonObjectMarshaller();
+
+    private final ObjectMarshaller cachingMarshaller = new CachingObjectMarshaller(marshaller, 1024 * 1024,
+            1024 * 1024);
+
+    private Account account;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        account = new Account();
+        account.setId(1234567890L);
+        account.setName("John Doe");
+        account.setEmail("john.doe@example.com");
+        for (int index = 0; index < tags; index++) {
+            account.getTags().add("tag-" + index);
+        }
+        json = marshaller.marshal(account);
+    }
+
+    @Benchmark
+    public byte[] marshal() {
+        return marshaller.marshal(account);
+    }
+
+    @Benchmark
+    public Account unmarshal() {
+        return marshaller.unmarshal(json, Account.class);
+    }
+
+    @Benchmark
+    public byte[] marshalCached() {
+        return cachingMarshaller.marshal(account);
+    }
+
+    @Benchmark
+    public Account unmarshalCached() {
+        return cachingMarshaller.unmarshal(json, Account.class);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] marshalContended() {
+        return marshaller.marshal(account);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Account unmarshalContended() {
+        return marshaller.unmarshal(json, Account.class);
+    }
+
+    /**
+     * Marshalled bean.
+     */
+    public static class Account {
+
+        private long id;
+
+        private String name;
+
+        private String email;
+
+        private List<String> tags = new ArrayList<>();
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package gcommon.objects;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the object utilities: {@link ObjectPrinter}, {@link ObjectBase#equals(Object)} and
+ * {@link ObjectBase#hashCode()}, {@link ObjectUtils#cloneObject(Object)} and {@link NumberFormatter}. Reflective
+ * utilities and number formatting are also measured by several threads, since they share class-level metadata (and
+ * a shared formatter, respectively). Only number formatting is parameterized by value.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectsBenchmark {
+
+    private Person person;
+
+    private Person equalPerson;
+
+    @Setup
+    public void setup() {
+        person = new Person("John", "Doe", 42, 1234567);
+        equalPerson = new Person("John", "Doe", 42, 1234567);
+    }
+
+    @Benchmark
+    public String print() {
+        return ObjectPrinter.newPrinter(person).toString();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String printContended() {
+        return ObjectPrinter.newPrinter(person).toString();
+    }
+
+    @Benchmark
+    public boolean equalsObjects() {
+        return person.equals(equalPerson);
+    }
+
+    @Benchmark
+    public int hashCodeObject() {
+        return person.hashCode();
+    }
+
+    @Benchmark
+    public Person cloneObject() {
+        return ObjectUtils.cloneObject(person);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Person cloneObjectContended() {
+        return ObjectUtils.cloneObject(person);
+    }
+
+    @Benchmark
+    public String formatNumber(NumberInput input) {
+        return input.formatter.format(input.value);
+    }
+
+    /**
+     * Several threads sharing a single formatter.
+     */
+    @Benchmark
+    @Threads(4)
+    public String formatNumberContended(NumberInput input) {
+        return input.formatter.format(input.value);
+    }
+
+    /**
+     * Input of number formatting benchmarks: a formatter shared by all threads, and a value to format.
+     */
+    @State(Scope.Benchmark)
+    public static class NumberInput {
+
+        /**
+         * Value to format (small, grouped and scaled).
+         */
+        @Param({"999", "1234567", "9876543210123"})
+        public long value;
+
+        private final NumberFormatter formatter = new NumberFormatter();
+    }
+
+    /**
+     * Sample bean.
+     */
+    public static class Person extends ObjectBase implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String firstName;
+
+        private final String lastName;
+
+        private final int age;
+
+        private final long balance;
+
+        Person(String firstName, String lastName, int age, long balance) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = age;
+            this.balance = balance;
+        }
+
+        @Override
+        public ObjectsBag objectsBag() {
+            return new ObjectsBag(firstName, lastName, age, balance);
+        }
+    }
+}
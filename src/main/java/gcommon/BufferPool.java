@@ -0,0 +1,138 @@
+package gcommon;
+
+import gcommon.pool.ObjectPool;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded pool of reusable, equally-sized {@link ByteBuffer}s, either heap or direct. Buffer size is rounded up to a
+ * multiple of {@link #PAGE_SIZE}, so direct buffers span whole pages and I/O is issued in page-sized chunks.<p>
+ * Buffers are handed out cleared, and should be returned with {@link #release(ByteBuffer)} once done (buffers that
+ * are not returned are simply garbage-collected). When the pool is empty a new buffer is allocated; when it is full,
+ * released buffers are dropped. A buffer must be released at most once: in debug mode (system property
+ * {@code gcommon.pool.debug}, read when a pool is created) releasing an idle buffer again fails, rather than letting two
+ * later callers share it. Instances are thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class BufferPool {
+
+    /**
+     * Granularity of buffer sizes.
+     */
+    public static final int PAGE_SIZE = 4096;
+
+    /**
+     * Size of each buffer.
+     */
+    private final int bufferSize;
+
+    /**
+     * Maximum number of idle buffers retained.
+     */
+    private final int maxPooled;
+
+    /**
+     * {@code true} for direct buffers, {@code false} for heap buffers.
+     */
+    private final boolean direct;
+
+    /**
+     * {@code true} if releases are checked for buffers that are already idle.
+     */
+    private final boolean debug = Boolean.getBoolean(ObjectPool.DEBUG_PROPERTY);
+
+    /**
+     * Idle buffers.
+     */
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of idle buffers (maintained separately, since {@link ConcurrentLinkedQueue#size()} is linear).
+     */
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    /**
+     * Class constructor.
+     *
+     * @param bufferSize Requested buffer size (rounded up to a multiple of {@link #PAGE_SIZE}).
+     * @param maxPooled  Maximum number of idle buffers retained.
+     * @param direct     {@code true} for direct buffers, {@code false} for heap buffers.
+     * @throws IllegalArgumentException If either <i>bufferSize</i> is not positive, or <i>maxPooled</i> is negative.
+     */
+    public BufferPool(int bufferSize, int maxPooled, boolean direct) throws IllegalArgumentException {
+        Assert.isTrue(bufferSize > 0 && bufferSize <= Integer.MAX_VALUE - PAGE_SIZE,
+                "Invalid buffer size: " + bufferSize + ".");
+        Assert.isTrue(maxPooled >= 0, "Maximum pooled buffers cannot be negative.");
+
+        this.bufferSize = (bufferSize + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+        this.maxPooled = maxPooled;
+        this.direct = direct;
+    }
+
+    /**
+     * @return A cleared buffer, either pooled or newly allocated.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        }
+
+        pooled.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool. Buffers not allocated by this pool (different size or kind) are ignored. A buffer
+     * must not be used after being released, nor released again.
+     *
+     * @param buffer Buffer to return. If {@code null}, no action is performed.
+     * @throws IllegalStateException In debug mode, if <i>buffer</i> is already idle in the pool.
+     */
+    public void release(ByteBuffer buffer) throws IllegalStateException {
+        if (buffer == null || buffer.capacity() != bufferSize || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+
+        if (debug) {
+            // Idle buffers are few, so a linear scan (by identity - buffers' equals() compares content) is cheap.
+            for (ByteBuffer idle : buffers) {
+                if (idle == buffer) {
+                    throw new IllegalStateException("Buffer released twice.");
+                }
+            }
+        }
+
+        if (pooled.incrementAndGet() <= maxPooled) {
+            buffers.offer(buffer);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return Size of each buffer.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return {@code true} for direct buffers, {@code false} for heap buffers.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return Number of idle buffers currently pooled.
+     */
+    public int getPooledCount() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,83 @@
+package gcommon;
+
+import java.util.BitSet;
+
+/**
+ * Result of bulk validation (e.g.: {@link ValidationUtil#validateEmails(java.util.List)}). Holds a bit per validated
+ * row, set if the row is valid.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class BulkValidationResult {
+
+    /**
+     * Bit set of valid rows.
+     */
+    private final BitSet valid;
+
+    /**
+     * Total number of validated rows.
+     */
+    private final int size;
+
+    /**
+     * Number of valid rows.
+     */
+    private final int validCount;
+
+    /**
+     * Class constructor.
+     *
+     * @param valid Bit set of valid rows.
+     * @param size  Total number of validated rows.
+     */
+    BulkValidationResult(BitSet valid, int size) {
+        this.valid = valid;
+        this.size = size;
+        this.validCount = valid.cardinality();
+    }
+
+    /**
+     * @return Bit set of valid rows (bit <i>n</i> is set if row <i>n</i> is valid). The returned instance is owned by
+     * this result, callers should not modify it.
+     */
+    public BitSet getValid() {
+        return valid;
+    }
+
+    /**
+     * @param row Row index.
+     * @return {@code true} if row is valid, {@code false} if not.
+     */
+    public boolean isValid(int row) {
+        return valid.get(row);
+    }
+
+    /**
+     * @return Total number of validated rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of valid rows.
+     */
+    public int getValidCount() {
+        return validCount;
+    }
+
+    /**
+     * @return Number of invalid rows.
+     */
+    public int getInvalidCount() {
+        return size - validCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkValidationResult [ size: " + size + "; valid: " + validCount + "; invalid: "
+                + getInvalidCount() + " ]";
+    }
+}
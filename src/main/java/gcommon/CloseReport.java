@@ -0,0 +1,161 @@
+package gcommon;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of closing a set of resources in bulk (see {@link ResourceScope}): failures, resources that did not close
+ * within a deadline, and closing times aggregated per resource type.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class CloseReport {
+
+    /**
+     * An empty report (nothing closed).
+     */
+    static final CloseReport EMPTY = new CloseReport(0, Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyMap());
+
+    /**
+     * Number of resources closed (successfully or not).
+     */
+    private final int closedCount;
+
+    /**
+     * Exceptions thrown by closing resources.
+     */
+    private final List<Throwable> failures;
+
+    /**
+     * Resources that did not complete closing within deadline.
+     */
+    private final List<AutoCloseable> timedOut;
+
+    /**
+     * Closing times, per resource type.
+     */
+    private final Map<Class<?>, TypeTiming> timings;
+
+    CloseReport(int closedCount, List<Throwable> failures, List<AutoCloseable> timedOut,
+                Map<Class<?>, TypeTiming> timings) {
+        this.closedCount = closedCount;
+        this.failures = failures;
+        this.timedOut = timedOut;
+        this.timings = timings;
+    }
+
+    /**
+     * @return Number of resources whose closing completed (successfully or not).
+     */
+    public int getClosedCount() {
+        return closedCount;
+    }
+
+    /**
+     * @return Unmodifiable list of exceptions thrown while closing resources.
+     */
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return Unmodifiable list of resources that did not complete closing within deadline (they may still be closing
+     * in the background).
+     */
+    public List<AutoCloseable> getTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return Unmodifiable map of closing times, per resource type (of resources that completed closing).
+     */
+    public Map<Class<?>, TypeTiming> getTimings() {
+        return timings;
+    }
+
+    /**
+     * @return {@code true} if all resources closed successfully within deadline.
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty() && timedOut.isEmpty();
+    }
+
+    /**
+     * Throw an exception if any resource failed to close, or did not close within deadline.
+     *
+     * @throws IOException Aggregated exception, with all failures attached as suppressed exceptions.
+     */
+    public void throwIfFailed() throws IOException {
+        if (!isSuccessful()) {
+            IOException ex = new IOException(failures.size() + " resource(s) failed to close, " + timedOut.size()
+                    + " timed out.");
+            failures.forEach(ex::addSuppressed);
+            throw ex;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CloseReport{closed=" + closedCount + ", failures=" + failures.size() + ", timedOut=" + timedOut.size()
+                + ", timings=" + timings.values() + "}";
+    }
+
+    /**
+     * Aggregated closing times of a single resource type.
+     */
+    public static final class TypeTiming {
+
+        private final Class<?> type;
+
+        private final int count;
+
+        private final long totalNanos;
+
+        private final long maxNanos;
+
+        TypeTiming(Class<?> type, int count, long totalNanos, long maxNanos) {
+            this.type = type;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * @return Resource type.
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * @return Number of resources of this type that were closed.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return Total closing time, in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * @return Longest closing time of a single resource, in nanoseconds.
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return type.getSimpleName() + "{count=" + count + ", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos
+                    + "}";
+        }
+    }
+}
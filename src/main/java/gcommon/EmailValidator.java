@@ -0,0 +1,147 @@
+package gcommon;
+
+/**
+ * Linear-time E-mail address syntax validator, shared by {@link ValidationUtil} and {@link StringUtils}. The input is
+ * scanned once by a small state machine (no regular expressions, no backtracking), after verifying its length.<p>
+ * Accepted grammar (based on RFC-822/5322 <i>dot-atom</i> form, case-insensitive):
+ * <pre>
+ *     address = local-part "@" domain
+ *     local   = atext+ ( "." atext+ )*
+ *     atext   = ALPHA / DIGIT / one of !#$%&amp;'*+/=?^_`{|}~-
+ *     domain  = label ( "." label )+
+ *     label   = ALNUM [ *( ALNUM / "-" ) ALNUM ]
+ * </pre>
+ * The entire address must not exceed {@link #MAX_LENGTH} characters.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class EmailValidator {
+
+    /**
+     * Maximum length of an E-mail address.
+     */
+    static final int MAX_LENGTH = 256;
+
+    /**
+     * Character class: valid in local part.
+     */
+    private static final byte ATEXT = 1;
+
+    /**
+     * Character class: letter or digit (valid anywhere within a domain label).
+     */
+    private static final byte ALNUM = 2;
+
+    /**
+     * Character classes of ASCII characters.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char ch = 'a'; ch <= 'z'; ch++) {
+            CLASSES[ch] = ATEXT | ALNUM;
+            CLASSES[Character.toUpperCase(ch)] = ATEXT | ALNUM;
+        }
+        for (char ch = '0'; ch <= '9'; ch++) {
+            CLASSES[ch] = ATEXT | ALNUM;
+        }
+        for (char ch : "!#$%&'*+/=?^_`{|}~-".toCharArray()) {
+            CLASSES[ch] = ATEXT;
+        }
+    }
+
+    //
+    // Parser states.
+    //
+    private static final int LOCAL_ATOM_START = 0;
+    private static final int LOCAL_ATOM = 1;
+    private static final int LABEL_START = 2;
+    private static final int LABEL = 3;
+    private static final int LABEL_HYPHEN = 4;
+
+    /**
+     * Class constructor.
+     */
+    private EmailValidator() {
+    }
+
+    /**
+     * Test if a given character sequence is a syntactically valid E-mail address.
+     *
+     * @param email Sequence to test. Must not be {@code null}.
+     * @return {@code true} if <i>email</i> is valid, {@code false} if not.
+     */
+    static boolean isValid(CharSequence email) {
+        return isValid(email, 0, email.length());
+    }
+
+    /**
+     * Test if a range of a given character sequence is a syntactically valid E-mail address. The sequence is accessed
+     * only via {@link CharSequence#charAt(int)}, so callers may pass views over parse buffers.
+     *
+     * @param email Sequence to test. Must not be {@code null}.
+     * @param start Index of first character of the address.
+     * @param end   Index following the last character of the address.
+     * @return {@code true} if range is a valid address, {@code false} if not.
+     */
+    static boolean isValid(CharSequence email, int start, int end) {
+        if (end - start > MAX_LENGTH) {
+            return false;
+        }
+
+        int state = LOCAL_ATOM_START;
+        int labels = 0;
+        for (int index = start; index < end; index++) {
+            char ch = email.charAt(index);
+            int charClass = ch < 128 ? CLASSES[ch] : 0;
+
+            switch (state) {
+                case LOCAL_ATOM_START:
+                    if ((charClass & ATEXT) == 0) {
+                        return false;
+                    }
+                    state = LOCAL_ATOM;
+                    break;
+
+                case LOCAL_ATOM:
+                    if (ch == '.') {
+                        state = LOCAL_ATOM_START;
+                    } else if (ch == '@') {
+                        state = LABEL_START;
+                    } else if ((charClass & ATEXT) == 0) {
+                        return false;
+                    }
+                    break;
+
+                case LABEL_START:
+                    if ((charClass & ALNUM) == 0) {
+                        return false;
+                    }
+                    labels++;
+                    state = LABEL;
+                    break;
+
+                case LABEL:
+                    if (ch == '.') {
+                        state = LABEL_START;
+                    } else if (ch == '-') {
+                        state = LABEL_HYPHEN;
+                    } else if ((charClass & ALNUM) == 0) {
+                        return false;
+                    }
+                    break;
+
+                default: // LABEL_HYPHEN - label cannot end with a hyphen.
+                    if ((charClass & ALNUM) != 0) {
+                        state = LABEL;
+                    } else if (ch != '-') {
+                        return false;
+                    }
+                    break;
+            }
+        }
+
+        return state == LABEL && labels >= 2;
+    }
+}
@@ -0,0 +1,487 @@
+package gcommon;
+
+import gcommon.pool.ObjectPool;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import org.springframework.util.Assert;
+
+/**
+ * A pre-compiled {@link java.util.Formatter} format string. The format is parsed once into literal segments and
+ * format specifiers, so rendering does not re-parse the format on every call (as {@link Formatter} does).<p>
+ * The common specifiers {@code %s}, {@code %d}, {@code %x}, {@code %,d}, {@code %n} and {@code %%} are rendered
+ * directly. Any other specifier (e.g.: one with width, precision or flags other than ',') is handed to a
+ * {@link Formatter}, so the generated output is identical to {@link String#format(Locale, String, Object...)}. So are
+ * errors: upon an invalid specifier or a missing argument, nothing is appended, and the exception is the one
+ * {@link Formatter} throws.<p>
+ * A template is bound to the locale it was compiled with. Instances are immutable and thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ * @see StringUtils#compile(String)
+ */
+public final class FormatTemplate {
+
+    /**
+     * Largest buffer capacity retained by a pooled formatter.
+     */
+    private static final int MAX_POOLED_CAPACITY = 4096;
+
+    /**
+     * Formatters used for delegated rendering. Each writes into a private buffer, whose content is then appended to the
+     * target buffer (a {@code Formatter} is bound to its destination, so it cannot write into the caller's buffer).
+     */
+    private static final ObjectPool<Formatter> FORMATTERS = new ObjectPool<>("Formatter",
+            () -> new Formatter(new StringBuilder(64)), formatter -> {
+                StringBuilder buf = (StringBuilder) formatter.out();
+                buf.setLength(0);
+                if (buf.capacity() > MAX_POOLED_CAPACITY) {
+                    buf.trimToSize();
+                }
+            }, ObjectPool.DEFAULT_CAPACITY);
+
+    /**
+     * Original format string.
+     */
+    private final String format;
+
+    /**
+     * Locale this template is bound to.
+     */
+    private final Locale locale;
+
+    /**
+     * Segments composing the format, in order of appearance. {@code null} if the format is rendered entirely by
+     * {@link Formatter} (e.g.: malformed formats, so errors are reported exactly as {@code Formatter} does).
+     */
+    private final Segment[] segments;
+
+    /**
+     * Localized zero digit, or {@code 0} if decimal conversion should be delegated to {@link Formatter}.
+     */
+    private final char zeroDigit;
+
+    /**
+     * Localized grouping separator, or {@code 0} if grouped conversion should be delegated to {@link Formatter}.
+     */
+    private final char groupingSeparator;
+
+    /**
+     * Class constructor.
+     *
+     * @param format Format string.
+     * @param locale Locale to bind to.
+     */
+    private FormatTemplate(String format, Locale locale) {
+        this.format = format;
+        this.locale = locale;
+        this.segments = parse(format);
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.zeroDigit = symbols.getZeroDigit() == '0' ? '0' : 0;
+
+        NumberFormat numberFormat = NumberFormat.getNumberInstance(locale);
+        boolean standardGrouping = numberFormat instanceof DecimalFormat && numberFormat.isGroupingUsed()
+                && ((DecimalFormat) numberFormat).getGroupingSize() == 3;
+        this.groupingSeparator = standardGrouping && zeroDigit != 0 ? symbols.getGroupingSeparator() : 0;
+    }
+
+    /**
+     * Compile a given <i>format</i>, bound to the default formatting locale.
+     *
+     * @param format Format string (see {@link Formatter} for syntax).
+     * @return A new template.
+     * @throws IllegalArgumentException If <i>format</i> is {@code null}.
+     */
+    public static FormatTemplate compile(String format) throws IllegalArgumentException {
+        return compile(Locale.getDefault(Locale.Category.FORMAT), format);
+    }
+
+    /**
+     * Compile a given <i>format</i>, bound to a given <i>locale</i>.
+     *
+     * @param locale Locale to use for localized conversions.
+     * @param format Format string (see {@link Formatter} for syntax).
+     * @return A new template.
+     * @throws IllegalArgumentException If either <i>locale</i> or <i>format</i> are {@code null}.
+     */
+    public static FormatTemplate compile(Locale locale, String format) throws IllegalArgumentException {
+        Assert.notNull(locale, "Locale cannot be null.");
+        Assert.notNull(format, "Format cannot be null.");
+        return new FormatTemplate(format, locale);
+    }
+
+    /**
+     * @return The format string this template was compiled from.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return The locale this template is bound to.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Render this template with the given <i>arguments</i>.
+     *
+     * @param arguments Arguments referenced by the format specifiers.
+     * @return Generated string.
+     */
+    public String format(Object... arguments) {
+        return appendTo(new StringBuilder(format.length() + 16), arguments).toString();
+    }
+
+    /**
+     * Render this template with the given <i>arguments</i> into a given buffer.
+     *
+     * @param targetBuf Target buffer to append to.
+     * @param arguments Arguments referenced by the format specifiers.
+     * @return <i>targetBuf</i>.
+     * @throws IllegalArgumentException If <i>targetBuf</i> is {@code null}, or format is invalid for the given
+     *                                  arguments (an {@link IllegalFormatException}, as thrown by {@link Formatter}).
+     */
+    public StringBuilder appendTo(StringBuilder targetBuf, Object... arguments) throws IllegalArgumentException {
+        Assert.notNull(targetBuf, "Target buffer cannot be null.");
+
+        if (segments == null) {
+            return formatTo(targetBuf, locale, format, arguments);
+        }
+
+        int start = targetBuf.length();
+        try {
+            return appendSegments(targetBuf, arguments);
+        } catch (IllegalFormatException ex) {
+            // Discard partial output, and let Formatter report the error as it would have: it validates all
+            // specifiers (and renders into its own buffer) before anything is appended.
+            targetBuf.setLength(start);
+            return formatTo(targetBuf, locale, format, arguments);
+        } catch (RuntimeException | Error ex) {
+            targetBuf.setLength(start);
+            throw ex;
+        }
+    }
+
+    /**
+     * Render segments of this template into a given buffer.
+     */
+    private StringBuilder appendSegments(StringBuilder targetBuf, Object[] arguments) {
+        int ordinaryIndex = 0;
+        int lastIndex = -1;
+
+        for (Segment segment : segments) {
+            if (segment.kind == Segment.LITERAL) {
+                targetBuf.append(segment.text);
+                continue;
+            }
+
+            if (segment.kind == Segment.LINE_SEPARATOR) {
+                targetBuf.append(System.lineSeparator());
+                continue;
+            }
+
+            // Resolve the argument referenced by this specifier.
+            int index;
+            if (segment.index == Segment.ORDINARY_INDEX) {
+                index = ordinaryIndex++;
+            } else if (segment.index == Segment.PREVIOUS_INDEX) {
+                index = lastIndex;
+            } else {
+                index = segment.index;
+            }
+            if (index < 0 || arguments != null && index >= arguments.length) {
+                throw new MissingFormatArgumentException(segment.text);
+            }
+            lastIndex = index;
+            Object argument = arguments != null ? arguments[index] : null;
+
+            if (!render(segment.kind, argument, targetBuf)) {
+                // Exotic specifier (or argument type) - let the JDK handle it.
+                formatTo(targetBuf, locale, segment.text, argument);
+            }
+        }
+
+        return targetBuf;
+    }
+
+    /**
+     * Render a format with a (pooled) {@link Formatter}.
+     *
+     * @param targetBuf Target buffer to append to.
+     * @param locale    Locale to format with.
+     * @param format    Format string.
+     * @param arguments Arguments referenced by the format specifiers.
+     * @return <i>targetBuf</i>.
+     */
+    static StringBuilder formatTo(StringBuilder targetBuf, Locale locale, String format, Object... arguments) {
+        Formatter formatter = FORMATTERS.acquire();
+        try {
+            formatter.format(locale, format, arguments);
+            return targetBuf.append((StringBuilder) formatter.out());
+        } finally {
+            FORMATTERS.release(formatter);
+        }
+    }
+
+    /**
+     * @return The format string this template was compiled from.
+     */
+    @Override
+    public String toString() {
+        return format;
+    }
+
+    /**
+     * Try to render a common specifier directly.
+     *
+     * @param kind      Kind of specifier.
+     * @param argument  Argument to render.
+     * @param targetBuf Buffer to append to.
+     * @return {@code true} if argument was rendered, {@code false} if it should be delegated to {@link Formatter}.
+     */
+    private boolean render(int kind, Object argument, StringBuilder targetBuf) {
+        switch (kind) {
+            case Segment.STRING:
+                if (argument instanceof Formattable) {
+                    return false;
+                }
+                targetBuf.append(argument);
+                return true;
+
+            case Segment.DECIMAL:
+                if (zeroDigit == 0) {
+                    return false;
+                }
+                if (argument instanceof Integer || argument instanceof Long
+                        || argument instanceof Short || argument instanceof Byte) {
+                    targetBuf.append(((Number) argument).longValue());
+                    return true;
+                }
+                if (argument instanceof BigInteger || argument == null) {
+                    targetBuf.append(argument);
+                    return true;
+                }
+                return false;
+
+            case Segment.GROUPED_DECIMAL:
+                if (groupingSeparator == 0) {
+                    return false;
+                }
+                if (argument instanceof Integer || argument instanceof Long
+                        || argument instanceof Short || argument instanceof Byte) {
+                    long value = ((Number) argument).longValue();
+                    if (value < 0) {
+                        targetBuf.append('-');
+                    }
+                    GroupedNumberFormat.appendGrouped(targetBuf, value, '0', groupingSeparator, 3);
+                    return true;
+                }
+                if (argument == null) {
+                    targetBuf.append("null");
+                    return true;
+                }
+                return false;
+
+            case Segment.HEX:
+                if (argument instanceof Integer) {
+                    targetBuf.append(Integer.toHexString((Integer) argument));
+                } else if (argument instanceof Long) {
+                    targetBuf.append(Long.toHexString((Long) argument));
+                } else if (argument instanceof Byte) {
+                    targetBuf.append(Integer.toHexString(((Byte) argument) & 0xFF));
+                } else if (argument instanceof Short) {
+                    targetBuf.append(Integer.toHexString(((Short) argument) & 0xFFFF));
+                } else if (argument == null) {
+                    targetBuf.append("null");
+                } else {
+                    return false;
+                }
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Parse a format string into segments. The grammar follows {@link Formatter}:
+     * {@code %[argument_index$][flags][width][.precision][t]conversion}.
+     *
+     * @param format Format to parse.
+     * @return Parsed segments, or {@code null} if the format should be rendered by {@link Formatter} as a whole.
+     */
+    private static Segment[] parse(String format) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = format.length();
+        int position = 0;
+
+        while (position < length) {
+            char ch = format.charAt(position);
+            if (ch != '%') {
+                literal.append(ch);
+                position++;
+                continue;
+            }
+
+            int start = position++;
+
+            // Optional argument index ('n$') or relative index ('<' flag).
+            int index = Segment.ORDINARY_INDEX;
+            int digitsEnd = position;
+            while (digitsEnd < length && Character.isDigit(format.charAt(digitsEnd))) {
+                digitsEnd++;
+            }
+            if (digitsEnd > position && digitsEnd < length && format.charAt(digitsEnd) == '$') {
+                if (digitsEnd - position > 9) {
+                    return null;
+                }
+                index = Integer.parseInt(format.substring(position, digitsEnd)) - 1;
+                if (index < 0) {
+                    return null;
+                }
+                position = digitsEnd + 1;
+            }
+
+            // Flags.
+            int flagsStart = position;
+            while (position < length && "-#+ 0,(<".indexOf(format.charAt(position)) >= 0) {
+                position++;
+            }
+            String flags = format.substring(flagsStart, position);
+            if (flags.indexOf('<') >= 0) {
+                index = Segment.PREVIOUS_INDEX;
+            }
+
+            // Width and precision.
+            int widthStart = position;
+            while (position < length && Character.isDigit(format.charAt(position))) {
+                position++;
+            }
+            boolean plain = flags.isEmpty() || flags.equals("<") || flags.equals(",");
+            plain &= position == widthStart;
+            if (position < length && format.charAt(position) == '.') {
+                position++;
+                while (position < length && Character.isDigit(format.charAt(position))) {
+                    position++;
+                }
+                plain = false;
+            }
+
+            // Date/time prefix and the conversion itself.
+            if (position < length && (format.charAt(position) == 't' || format.charAt(position) == 'T')) {
+                position++;
+                plain = false;
+            }
+            if (position >= length || !Character.isLetter(format.charAt(position))
+                    && format.charAt(position) != '%') {
+                // Malformed or unusual specifier - leave the entire format to Formatter.
+                return null;
+            }
+            char conversion = format.charAt(position++);
+
+            // '%%' and '%n' do not consume arguments.
+            if (conversion == '%' || conversion == 'n') {
+                if (!plain || index != Segment.ORDINARY_INDEX || !flags.isEmpty()) {
+                    return null;
+                }
+                if (conversion == '%') {
+                    literal.append('%');
+                } else {
+                    flushLiteral(literal, segments);
+                    segments.add(new Segment(Segment.LINE_SEPARATOR, null, Segment.ORDINARY_INDEX));
+                }
+                continue;
+            }
+
+            flushLiteral(literal, segments);
+            int kind = Segment.EXOTIC;
+            if (plain) {
+                boolean grouped = flags.indexOf(',') >= 0;
+                if (conversion == 's' && !grouped) {
+                    kind = Segment.STRING;
+                } else if (conversion == 'd') {
+                    kind = grouped ? Segment.GROUPED_DECIMAL : Segment.DECIMAL;
+                } else if (conversion == 'x' && !grouped) {
+                    kind = Segment.HEX;
+                }
+            }
+
+            // Keep the specifier text without its index, so it can be delegated with a single argument.
+            String text = "%" + flags.replace("<", "") + format.substring(widthStart, position);
+            segments.add(new Segment(kind, text, index));
+        }
+
+        flushLiteral(literal, segments);
+        return segments.toArray(new Segment[segments.size()]);
+    }
+
+    /**
+     * Move accumulated literal text (if any) into a new segment.
+     *
+     * @param literal  Accumulated literal text. Cleared by this method.
+     * @param segments List of segments to add to.
+     */
+    private static void flushLiteral(StringBuilder literal, List<Segment> segments) {
+        if (literal.length() > 0) {
+            segments.add(new Segment(Segment.LITERAL, literal.toString(), Segment.ORDINARY_INDEX));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * A single part of a compiled format: either literal text or a format specifier.
+     */
+    private static final class Segment {
+
+        static final int LITERAL = 0;
+        static final int LINE_SEPARATOR = 1;
+        static final int STRING = 2;
+        static final int DECIMAL = 3;
+        static final int GROUPED_DECIMAL = 4;
+        static final int HEX = 5;
+        static final int EXOTIC = 6;
+
+        /**
+         * Index value of a specifier consuming the next ordinary argument.
+         */
+        static final int ORDINARY_INDEX = -1;
+
+        /**
+         * Index value of a specifier re-using the previous argument ('<' flag).
+         */
+        static final int PREVIOUS_INDEX = -2;
+
+        /**
+         * Kind of segment.
+         */
+        final int kind;
+
+        /**
+         * Literal text, or specifier text (without argument index) for specifiers.
+         */
+        final String text;
+
+        /**
+         * Zero-based argument index, {@link #ORDINARY_INDEX} or {@link #PREVIOUS_INDEX}.
+         */
+        final int index;
+
+        Segment(int kind, String text, int index) {
+            this.kind = kind;
+            this.text = text;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package gcommon;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe formatter of integral values with thousands separators. Generates the same output as
+ * {@link NumberFormat#getInstance(Locale)} for {@code long} values, but without the shared mutable state of
+ * {@code NumberFormat}, so a single instance can be used by any number of threads without locking.<p>
+ * Locale symbols (grouping separator, grouping size, zero digit, sign prefix/suffix) are resolved once and cached per
+ * locale. {@link #appendTo(StringBuilder, long)} does not allocate.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class GroupedNumberFormat {
+
+    /**
+     * Formatters cached per locale.
+     */
+    private static final ConcurrentMap<Locale, GroupedNumberFormat> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Most recently used formatter. Spares map look-up in the common case of a single default locale.
+     */
+    private static volatile GroupedNumberFormat lastUsed;
+
+    /**
+     * Locale this instance formats for.
+     */
+    private final Locale locale;
+
+    /**
+     * Localized zero digit.
+     */
+    private final char zeroDigit;
+
+    /**
+     * Grouping separator.
+     */
+    private final char groupingSeparator;
+
+    /**
+     * Number of digits per group, or 0 if grouping is not used.
+     */
+    private final int groupingSize;
+
+    private final String positivePrefix;
+
+    private final String positiveSuffix;
+
+    private final String negativePrefix;
+
+    private final String negativeSuffix;
+
+    /**
+     * Non-{@code null} if locale does not use {@link DecimalFormat}; such locales are formatted by (a clone of) this
+     * format.
+     */
+    private final NumberFormat fallback;
+
+    /**
+     * Class constructor.
+     *
+     * @param locale Locale to format for.
+     */
+    private GroupedNumberFormat(Locale locale) {
+        this.locale = locale;
+
+        NumberFormat numberFormat = NumberFormat.getInstance(locale);
+        if (numberFormat instanceof DecimalFormat) {
+            DecimalFormat decimalFormat = (DecimalFormat) numberFormat;
+            DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+            this.zeroDigit = symbols.getZeroDigit();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.groupingSize = decimalFormat.isGroupingUsed() ? decimalFormat.getGroupingSize() : 0;
+            this.positivePrefix = decimalFormat.getPositivePrefix();
+            this.positiveSuffix = decimalFormat.getPositiveSuffix();
+            this.negativePrefix = decimalFormat.getNegativePrefix();
+            this.negativeSuffix = decimalFormat.getNegativeSuffix();
+            this.fallback = null;
+        } else {
+            this.zeroDigit = '0';
+            this.groupingSeparator = ',';
+            this.groupingSize = 3;
+            this.positivePrefix = this.positiveSuffix = this.negativePrefix = this.negativeSuffix = "";
+            this.fallback = numberFormat;
+        }
+    }
+
+    /**
+     * @return Formatter for the current default formatting locale.
+     */
+    public static GroupedNumberFormat getInstance() {
+        return getInstance(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * Return a formatter for a given <i>locale</i>. Formatters are cached, so repeated calls return the same instance.
+     *
+     * @param locale Locale to format for.
+     * @return Formatter for <i>locale</i>.
+     * @throws IllegalArgumentException If <i>locale</i> is {@code null}.
+     */
+    public static GroupedNumberFormat getInstance(Locale locale) throws IllegalArgumentException {
+        GroupedNumberFormat instance = lastUsed;
+        if (instance != null && instance.locale == locale) {
+            return instance;
+        }
+
+        Assert.notNull(locale, "Locale cannot be null.");
+        instance = instances.get(locale);
+        if (instance == null) {
+            instance = new GroupedNumberFormat(locale);
+            GroupedNumberFormat existing = instances.putIfAbsent(locale, instance);
+            if (existing != null) {
+                instance = existing;
+            }
+        }
+
+        lastUsed = instance;
+        return instance;
+    }
+
+    /**
+     * @return Locale this instance formats for.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Format a given value.
+     *
+     * @param value Value to format.
+     * @return Formatted value (e.g.: 1,234,567).
+     */
+    public String format(long value) {
+        return appendTo(new StringBuilder(32), value).toString();
+    }
+
+    /**
+     * Format a given value into a buffer.
+     *
+     * @param targetBuf Buffer to append formatted value to.
+     * @param value     Value to format.
+     * @return <i>targetBuf</i>.
+     * @throws IllegalArgumentException If <i>targetBuf</i> is {@code null}.
+     */
+    public StringBuilder appendTo(StringBuilder targetBuf, long value) throws IllegalArgumentException {
+        Assert.notNull(targetBuf, "Target buffer cannot be null.");
+
+        if (fallback != null) {
+            return targetBuf.append(((NumberFormat) fallback.clone()).format(value));
+        }
+
+        boolean negative = value < 0;
+        targetBuf.append(negative ? negativePrefix : positivePrefix);
+        appendGrouped(targetBuf, value, zeroDigit, groupingSeparator, groupingSize);
+        return targetBuf.append(negative ? negativeSuffix : positiveSuffix);
+    }
+
+    /**
+     * Append the magnitude of a given <i>value</i> (without sign), grouping its digits. Digits are written in place,
+     * least significant first, so no intermediate buffer is allocated.
+     *
+     * @param targetBuf    Buffer to append to.
+     * @param value        Value to append. Only its magnitude is written.
+     * @param zeroDigit    Character representing digit zero (subsequent digits follow in sequence).
+     * @param separator    Grouping separator.
+     * @param groupingSize Number of digits per group, or 0 for no grouping.
+     */
+    static void appendGrouped(StringBuilder targetBuf, long value, char zeroDigit, char separator, int groupingSize) {
+        // Work on negative magnitude, so Long.MIN_VALUE does not overflow.
+        long magnitude = value < 0 ? value : -value;
+
+        int digits = 1;
+        for (long remaining = magnitude / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        int length = digits + (groupingSize > 0 ? (digits - 1) / groupingSize : 0);
+
+        int position = targetBuf.length() + length;
+        targetBuf.setLength(position);
+
+        int count = 0;
+        do {
+            if (groupingSize > 0 && count > 0 && count % groupingSize == 0) {
+                targetBuf.setCharAt(--position, separator);
+            }
+            targetBuf.setCharAt(--position, (char) (zeroDigit - (magnitude % 10)));
+            magnitude /= 10;
+            count++;
+        } while (magnitude != 0);
+    }
+}
@@ -1,15 +1,61 @@
 package gcommon;
 
 import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Channel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.springframework.util.Assert;
 
 /**
- * I/O related utilities.
+ * I/O related utilities.<p>
+ * Copy helpers avoid user-space copying where the platform allows: file-to-file and file-to-channel (e.g.: socket)
+ * copies use {@link FileChannel#transferTo(long, long, WritableByteChannel)}/
+ * {@link FileChannel#transferFrom(ReadableByteChannel, long, long)}, and other copies reuse pooled buffers (see
+ * {@link #HEAP_BUFFERS} and {@link #DIRECT_BUFFERS}) rather than allocating one per copy.
  *
  * @author Guy Raz Nir
  * @since 17/07/2017
  */
 public class IOUtils {
 
+    /**
+     * Pool of heap buffers, used for stream copies.
+     */
+    public static final BufferPool HEAP_BUFFERS = new BufferPool(64 * 1024, 64, false);
+
+    /**
+     * Pool of direct buffers, used for channel copies.
+     */
+    public static final BufferPool DIRECT_BUFFERS = new BufferPool(64 * 1024, 64, true);
+
+    /**
+     * Files of at least this size are memory-mapped by {@link #readFully(Path)}, rather than read.
+     */
+    public static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Largest array size that can be allocated (some VMs reserve header words in arrays).
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Maximum number of bytes requested in a single {@code transferTo}/{@code transferFrom} call (some platforms
+     * fail on larger requests).
+     */
+    private static final long MAX_TRANSFER_SIZE = 8 * 1024 * 1024;
+
     /**
      * Close a handle forcibly, suppressing any error.
      *
@@ -24,4 +70,338 @@ public class IOUtils {
             }
         }
     }
+
+    /**
+     * Close a set of resources, collecting (rather than suppressing) errors. To close resources in parallel, see
+     * {@link ResourceScope#closeAll(java.util.concurrent.Executor, long, java.util.concurrent.TimeUnit)}.
+     *
+     * @param resources Resources to close ({@code null} elements are ignored).
+     * @return Report of closing.
+     * @throws IllegalArgumentException If <i>resources</i> is {@code null}.
+     */
+    public static CloseReport closeAll(Iterable<? extends AutoCloseable> resources) throws IllegalArgumentException {
+        return ResourceScope.closeAll(resources);
+    }
+
+    /**
+     * Copy all content of an input stream to an output stream. Neither stream is closed. File streams are copied via
+     * their channels (kernel-level transfer), other streams via a pooled buffer.
+     *
+     * @param in  Stream to read from.
+     * @param out Stream to write to.
+     * @return Number of bytes copied.
+     * @throws IllegalArgumentException If either <i>in</i> or <i>out</i> are {@code null}.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static long copy(InputStream in, OutputStream out) throws IllegalArgumentException, IOException {
+        Assert.notNull(in, "Input stream cannot be null.");
+        Assert.notNull(out, "Output stream cannot be null.");
+
+        if (in instanceof FileInputStream && out instanceof FileOutputStream) {
+            FileChannel source = ((FileInputStream) in).getChannel();
+            long position = source.position();
+            long copied = transfer(source, position, source.size() - position, ((FileOutputStream) out).getChannel());
+            source.position(position + copied);
+            return copied;
+        }
+
+        ByteBuffer buffer = HEAP_BUFFERS.acquire();
+        try {
+            byte[] bytes = buffer.array();
+            long copied = 0;
+            int count;
+            while ((count = in.read(bytes)) != -1) {
+                out.write(bytes, 0, count);
+                copied += count;
+            }
+            return copied;
+        } finally {
+            HEAP_BUFFERS.release(buffer);
+        }
+    }
+
+    /**
+     * Copy all content of a channel to another channel. Neither channel is closed. If either channel is a
+     * {@link FileChannel}, content is transferred at kernel level; otherwise a pooled direct buffer is used. Both
+     * channels must be in blocking mode.
+     *
+     * @param in  Channel to read from.
+     * @param out Channel to write to.
+     * @return Number of bytes copied.
+     * @throws IllegalArgumentException If either <i>in</i> or <i>out</i> are {@code null}, or either is a non-blocking
+     *                                  {@link SelectableChannel}.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static long copy(ReadableByteChannel in, WritableByteChannel out)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(in, "Input channel cannot be null.");
+        Assert.notNull(out, "Output channel cannot be null.");
+        assertBlocking(in);
+        assertBlocking(out);
+
+        if (in instanceof FileChannel) {
+            FileChannel source = (FileChannel) in;
+            long position = source.position();
+            long copied = transfer(source, position, source.size() - position, out);
+            source.position(position + copied);
+            return copied;
+        }
+
+        if (out instanceof FileChannel) {
+            FileChannel target = (FileChannel) out;
+            long position = target.position();
+            long copied = 0;
+            long count;
+            while ((count = target.transferFrom(in, position + copied, MAX_TRANSFER_SIZE)) > 0) {
+                copied += count;
+            }
+            // transferFrom() neither advances target's position nor tells end-of-stream from a non-blocking channel
+            // with no data, so finish with a buffered copy.
+            target.position(position + copied);
+            copied += copyBuffered(in, target);
+            return copied;
+        }
+
+        return copyBuffered(in, out);
+    }
+
+    /**
+     * Copy a file, replacing target if it exists.
+     *
+     * @param source File to copy.
+     * @param target Target file.
+     * @return Number of bytes copied.
+     * @throws IllegalArgumentException If either <i>source</i> or <i>target</i> are {@code null}.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static long copy(Path source, Path target) throws IllegalArgumentException, IOException {
+        Assert.notNull(source, "Source cannot be null.");
+        Assert.notNull(target, "Target cannot be null.");
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            return transfer(in, 0, in.size(), out);
+        }
+    }
+
+    /**
+     * Send content of a file to a channel (e.g.: a socket). Channel is not closed, and must be in blocking mode.
+     *
+     * @param source File to send.
+     * @param target Channel to write to.
+     * @return Number of bytes sent.
+     * @throws IllegalArgumentException If either <i>source</i> or <i>target</i> are {@code null}, or <i>target</i> is a
+     *                                  non-blocking {@link SelectableChannel}.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static long transferTo(Path source, WritableByteChannel target)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(source, "Source cannot be null.");
+        Assert.notNull(target, "Target cannot be null.");
+        assertBlocking(target);
+
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            return transfer(in, 0, in.size(), target);
+        }
+    }
+
+    /**
+     * Read entire content of a file into a buffer. Files of at least {@link #MAPPED_READ_THRESHOLD} bytes are
+     * memory-mapped (no copying into heap); smaller files are read into a heap buffer.
+     *
+     * @param file File to read.
+     * @return Read-only buffer holding entire content of <i>file</i>, positioned at 0.
+     * @throws IllegalArgumentException If <i>file</i> is {@code null}, or larger than 2GB.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static ByteBuffer readFully(Path file) throws IllegalArgumentException, IOException {
+        Assert.notNull(file, "File cannot be null.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Assert.isTrue(size <= Integer.MAX_VALUE, "File is too large: " + file + ".");
+            if (size >= MAPPED_READ_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    // File was truncated while reading.
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Read entire content of a file into a byte array. Files of at least {@link #MAPPED_READ_THRESHOLD} bytes are
+     * copied from a memory mapping; smaller files are read directly into the returned array.
+     *
+     * @param file File to read.
+     * @return Content of <i>file</i>.
+     * @throws IllegalArgumentException If <i>file</i> is {@code null}, or larger than 2GB.
+     * @throws IOException              If an I/O error occurred.
+     */
+    public static byte[] readAll(Path file) throws IllegalArgumentException, IOException {
+        Assert.notNull(file, "File cannot be null.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Assert.isTrue(size <= MAX_ARRAY_SIZE, "File is too large: " + file + ".");
+            byte[] bytes = new byte[(int) size];
+            if (size >= MAPPED_READ_THRESHOLD) {
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, size).get(bytes);
+                return bytes;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    // File was truncated while reading.
+                    return Arrays.copyOf(bytes, buffer.position());
+                }
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Read all remaining content of a stream (stream is not closed).
+     *
+     * @param in Stream to read.
+     * @return Content of stream.
+     * @throws IllegalArgumentException If <i>in</i> is {@code null}.
+     * @throws IOException              If an I/O error occurred.
+     * @throws OutOfMemoryError         If content of stream exceeds the maximum array size (about 2GB).
+     */
+    public static byte[] readAll(InputStream in) throws IllegalArgumentException, IOException, OutOfMemoryError {
+        Assert.notNull(in, "Input stream cannot be null.");
+
+        byte[] bytes = new byte[Math.max(in.available(), 8192)];
+        int length = 0;
+        int count;
+        while ((count = in.read(bytes, length, bytes.length - length)) != -1) {
+            length += count;
+            if (length == bytes.length) {
+                if (length >= MAX_ARRAY_SIZE) {
+                    if (in.read() == -1) {
+                        break;
+                    }
+                    throw new OutOfMemoryError("Stream content exceeds maximum array size (" + MAX_ARRAY_SIZE
+                            + " bytes).");
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length * 2L, MAX_ARRAY_SIZE));
+            }
+        }
+
+        return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * Read exactly <i>length</i> bytes from a stream.
+     *
+     * @param in     Stream to read from.
+     * @param buffer Buffer to read into.
+     * @param offset Offset within <i>buffer</i>.
+     * @param length Number of bytes to read.
+     * @throws IllegalArgumentException  If either <i>in</i> or <i>buffer</i> are {@code null}.
+     * @throws IndexOutOfBoundsException If range is out of <i>buffer</i>'s bounds.
+     * @throws EOFException              If stream ended before <i>length</i> bytes were read.
+     * @throws IOException               If an I/O error occurred.
+     */
+    public static void readFully(InputStream in, byte[] buffer, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException, IOException {
+        Assert.notNull(in, "Input stream cannot be null.");
+        Assert.notNull(buffer, "Buffer cannot be null.");
+        if (offset < 0 || length < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") is out of bounds of buffer of length " + buffer.length + ".");
+        }
+
+        while (length > 0) {
+            int count = in.read(buffer, offset, length);
+            if (count < 0) {
+                throw new EOFException("Stream ended with " + length + " bytes left to read.");
+            }
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Transfer a range of a file to a channel, at kernel level.
+     *
+     * @return Number of bytes transferred.
+     */
+    private static long transfer(FileChannel source, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long chunk = source.transferTo(position + transferred, Math.min(count - transferred, MAX_TRANSFER_SIZE),
+                    target);
+            if (chunk <= 0) {
+                // Source shrank, or kernel-level transfer to target is not possible - continue with a buffered copy
+                // (target is blocking, so each write makes progress).
+                if (position + transferred >= source.size()) {
+                    break;
+                }
+                ByteBuffer buffer = DIRECT_BUFFERS.acquire();
+                try {
+                    buffer.limit((int) Math.min(buffer.capacity(), count - transferred));
+                    int read = source.read(buffer, position + transferred);
+                    if (read <= 0) {
+                        break;
+                    }
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    transferred += read;
+                } finally {
+                    DIRECT_BUFFERS.release(buffer);
+                }
+            } else {
+                transferred += chunk;
+            }
+        }
+        return transferred;
+    }
+
+    /**
+     * Make sure a channel is in blocking mode, since copying loops until each read or write makes progress (a
+     * non-blocking channel would spin).
+     *
+     * @throws IllegalArgumentException If <i>channel</i> is a non-blocking {@link SelectableChannel}.
+     */
+    private static void assertBlocking(Channel channel) throws IllegalArgumentException {
+        Assert.isTrue(!(channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking(),
+                "Channel must be in blocking mode.");
+    }
+
+    /**
+     * Copy a channel to another channel via a pooled direct buffer.
+     *
+     * @return Number of bytes copied.
+     */
+    private static long copyBuffered(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = DIRECT_BUFFERS.acquire();
+        try {
+            long copied = 0;
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                copied += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+            return copied;
+        } finally {
+            DIRECT_BUFFERS.release(buffer);
+        }
+    }
 }
@@ -0,0 +1,452 @@
+package gcommon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.springframework.util.Assert;
+
+/**
+ * Streaming reader of delimited records (e.g.: lines of a log file, CSV feed or JSON-lines file), designed to avoid
+ * per-record allocation. Content is read in large chunks into a single reusable buffer, and each record is handed to
+ * a callback as a view over that buffer:
+ * <ul>
+ * <li>{@link #forEach(RecordHandler)} passes a {@link ByteBuffer} whose position/limit span the record's bytes. The
+ * buffer is heap-based, so its backing array may be used directly (e.g.: with
+ * {@link gcommon.marshaller.ObjectMarshaller#unmarshal(byte[], int, int, Class)}).</li>
+ * <li>{@link #forEachLine(Consumer)} passes a {@link CharSequence} holding the record decoded in a given charset.</li>
+ * </ul>
+ * Views are reused for the next record, so a callback must copy whatever it retains (e.g.: via
+ * {@code toString()}). Delimiters are excluded from records, as is a carriage return preceding a line-feed delimiter.
+ * A final record that is not terminated by a delimiter is reported as well. Records longer than the buffer grow it, up
+ * to a maximum record length.<p>
+ * Large files may also be processed in parallel (see {@link #forEach(Path, ExecutorService, int, RecordHandler)}),
+ * split into ranges at record boundaries. This class is not thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class RecordReader implements Closeable {
+
+    /**
+     * Default size of read buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Default maximum length of a single record.
+     */
+    public static final int DEFAULT_MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+
+    /**
+     * Channel to read from.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Record delimiter.
+     */
+    private final byte delimiter;
+
+    /**
+     * Maximum length of a single record.
+     */
+    private final int maxRecordLength;
+
+    /**
+     * Read buffer. Bytes between position and limit are pending (read but not yet handed out).
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * View handed to record handlers.
+     */
+    private ByteBuffer view;
+
+    /**
+     * Class constructor. Reads line-feed delimited records.
+     *
+     * @param channel Channel to read from.
+     * @throws IllegalArgumentException If <i>channel</i> is {@code null}.
+     */
+    public RecordReader(ReadableByteChannel channel) throws IllegalArgumentException {
+        this(channel, (byte) '\n', DEFAULT_BUFFER_SIZE, DEFAULT_MAX_RECORD_LENGTH);
+    }
+
+    /**
+     * Class constructor. Reads line-feed delimited records.
+     *
+     * @param in Stream to read from.
+     * @throws IllegalArgumentException If <i>in</i> is {@code null}.
+     */
+    public RecordReader(InputStream in) throws IllegalArgumentException {
+        this(Channels.newChannel(nonNull(in)));
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param channel         Channel to read from.
+     * @param delimiter       Record delimiter.
+     * @param bufferSize      Initial size of read buffer.
+     * @param maxRecordLength Maximum length of a single record.
+     * @throws IllegalArgumentException If <i>channel</i> is {@code null}, or either <i>bufferSize</i> or
+     *                                  <i>maxRecordLength</i> are not positive.
+     */
+    public RecordReader(ReadableByteChannel channel, byte delimiter, int bufferSize, int maxRecordLength)
+            throws IllegalArgumentException {
+        Assert.notNull(channel, "Channel cannot be null.");
+        Assert.isTrue(bufferSize > 0, "Buffer size must be positive.");
+        Assert.isTrue(maxRecordLength > 0, "Maximum record length must be positive.");
+
+        this.channel = channel;
+        this.delimiter = delimiter;
+        this.maxRecordLength = maxRecordLength;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+        this.view = buffer.duplicate();
+    }
+
+    /**
+     * Open a reader of line-feed delimited records of a file.
+     *
+     * @param file File to read.
+     * @return A new reader (to be closed by caller).
+     * @throws IllegalArgumentException If <i>file</i> is {@code null}.
+     * @throws IOException              If file could not be opened.
+     */
+    public static RecordReader open(Path file) throws IllegalArgumentException, IOException {
+        Assert.notNull(file, "File cannot be null.");
+        return new RecordReader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Hand each remaining record to a handler, as a reusable view over the read buffer.
+     *
+     * @param handler Handler of records.
+     * @return Number of records handled.
+     * @throws IllegalArgumentException If <i>handler</i> is {@code null}.
+     * @throws IOException              If an I/O error occurred, or a record exceeds maximum record length.
+     */
+    public long forEach(RecordHandler handler) throws IllegalArgumentException, IOException {
+        Assert.notNull(handler, "Handler cannot be null.");
+
+        long count = 0;
+        int scanFrom = buffer.position();
+        boolean endOfStream = false;
+        while (true) {
+            int end = indexOf(scanFrom, buffer.limit());
+            if (end < 0) {
+                if (endOfStream) {
+                    if (buffer.hasRemaining()) {
+                        emit(buffer.position(), buffer.limit(), handler);
+                        buffer.position(buffer.limit());
+                        count++;
+                    }
+                    return count;
+                }
+
+                // No complete record pending - read more (keeping partial record), then resume scanning.
+                scanFrom = buffer.remaining();
+                endOfStream = fill();
+                scanFrom = buffer.position() + scanFrom;
+                continue;
+            }
+
+            emit(buffer.position(), end, handler);
+            buffer.position(end + 1);
+            scanFrom = end + 1;
+            count++;
+        }
+    }
+
+    /**
+     * Hand each remaining record to a handler, decoded as text into a reusable character sequence.
+     *
+     * @param charset Charset of records.
+     * @param handler Handler of records.
+     * @return Number of records handled.
+     * @throws IllegalArgumentException If either <i>charset</i> or <i>handler</i> are {@code null}.
+     * @throws IOException              If an I/O error occurred, a record exceeds maximum record length or is not
+     *                                  valid in <i>charset</i>.
+     */
+    public long forEachLine(Charset charset, Consumer<? super CharSequence> handler)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(charset, "Charset cannot be null.");
+        Assert.notNull(handler, "Handler cannot be null.");
+
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer[] chars = {CharBuffer.allocate(1024)};
+        return forEach(record -> {
+            int required = (int) (record.remaining() * (double) decoder.maxCharsPerByte()) + 1;
+            if (chars[0].capacity() < required) {
+                chars[0] = CharBuffer.allocate(Math.max(required, chars[0].capacity() * 2));
+            }
+            CharBuffer target = chars[0];
+            target.clear();
+            decoder.reset();
+            CoderResult result = decoder.decode(record, target, true);
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            decoder.flush(target);
+            target.flip();
+            handler.accept(target);
+        });
+    }
+
+    /**
+     * Hand each remaining record to a handler, decoded as UTF-8 text (see {@link #forEachLine(Charset, Consumer)}).
+     *
+     * @param handler Handler of records.
+     * @return Number of records handled.
+     * @throws IllegalArgumentException If <i>handler</i> is {@code null}.
+     * @throws IOException              If an I/O error occurred, a record exceeds maximum record length or is not
+     *                                  valid UTF-8.
+     */
+    public long forEachLine(Consumer<? super CharSequence> handler) throws IllegalArgumentException, IOException {
+        return forEachLine(StandardCharsets.UTF_8, handler);
+    }
+
+    /**
+     * Process line-feed delimited records of a file in parallel. The file is split into (up to) <i>parallelism</i>
+     * ranges, whose boundaries are moved forward to the nearest record boundary, and each range is read by a separate
+     * task. The handler is invoked concurrently (with a distinct view per task), so it must be thread-safe; records
+     * are not handed out in file order.
+     *
+     * @param file        File to read.
+     * @param executor    Executor to run tasks on.
+     * @param parallelism Number of ranges to split the file into.
+     * @param handler     Handler of records.
+     * @return Number of records handled.
+     * @throws IllegalArgumentException If any argument is {@code null}, or <i>parallelism</i> is not positive.
+     * @throws IOException              If an I/O error occurred or a record exceeds maximum record length.
+     */
+    public static long forEach(Path file, ExecutorService executor, int parallelism, RecordHandler handler)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(file, "File cannot be null.");
+        Assert.notNull(executor, "Executor cannot be null.");
+        Assert.isTrue(parallelism > 0, "Parallelism must be positive.");
+        Assert.notNull(handler, "Handler cannot be null.");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = split(channel, parallelism, (byte) '\n');
+            List<Future<Long>> futures = new ArrayList<>(boundaries.length - 1);
+            for (int index = 0; index < boundaries.length - 1; index++) {
+                long from = boundaries[index];
+                long to = boundaries[index + 1];
+                if (from < to) {
+                    futures.add(executor.submit(() -> new RecordReader(new RangeChannel(channel, from, to))
+                            .forEach(handler)));
+                }
+            }
+
+            long count = 0;
+            IOException failure = null;
+            for (Future<Long> future : futures) {
+                try {
+                    count += future.get();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    if (failure == null) {
+                        failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(pending -> pending.cancel(true));
+                    throw new IOException("Interrupted while reading " + file + ".", ex);
+                }
+            }
+
+            if (failure != null) {
+                throw failure;
+            }
+            return count;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Hand a record to a handler.
+     *
+     * @param from    Start of record (inclusive).
+     * @param to      End of record (exclusive, position of delimiter).
+     * @param handler Handler of records.
+     */
+    private void emit(int from, int to, RecordHandler handler) throws IOException {
+        if (delimiter == '\n' && to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+        view.limit(to).position(from);
+        handler.onRecord(view);
+    }
+
+    /**
+     * @return Position of first delimiter in range of buffer, or -1 if none.
+     */
+    private int indexOf(int from, int to) {
+        byte[] array = buffer.array();
+        for (int index = from; index < to; index++) {
+            if (array[index] == delimiter) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read more content. Pending bytes are moved to the start of the buffer, which grows if full.
+     *
+     * @return {@code true} if end of stream was reached.
+     * @throws IOException If an I/O error occurred, or buffer would exceed maximum record length.
+     */
+    private boolean fill() throws IOException {
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+            if (buffer.capacity() >= maxRecordLength) {
+                throw new IOException("Record exceeds maximum length of " + maxRecordLength + " bytes.");
+            }
+            ByteBuffer larger = ByteBuffer.allocate((int) Math.min((long) buffer.capacity() * 2, maxRecordLength));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+            view = buffer.duplicate();
+        }
+
+        int read = channel.read(buffer);
+        buffer.flip();
+        return read < 0;
+    }
+
+    /**
+     * Split a file into ranges at record boundaries.
+     *
+     * @return Boundaries of ranges: range <i>i</i> is {@code [boundaries[i], boundaries[i + 1])}.
+     */
+    private static long[] split(FileChannel channel, int parallelism, byte delimiter) throws IOException {
+        long size = channel.size();
+        long[] boundaries = new long[parallelism + 1];
+        boundaries[parallelism] = size;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        for (int index = 1; index < parallelism; index++) {
+            // Start right after the first delimiter at or beyond the nominal split point.
+            long position = Math.max(size / parallelism * index, boundaries[index - 1]);
+            long boundary = size;
+            while (position < size) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                if (read <= 0) {
+                    break;
+                }
+                int found = -1;
+                for (int offset = 0; offset < read && found < 0; offset++) {
+                    if (probe.get(offset) == delimiter) {
+                        found = offset;
+                    }
+                }
+                if (found >= 0) {
+                    boundary = position + found + 1;
+                    break;
+                }
+                position += read;
+            }
+            boundaries[index] = boundary;
+        }
+        return boundaries;
+    }
+
+    /**
+     * @return <i>in</i>.
+     * @throws IllegalArgumentException If <i>in</i> is {@code null}.
+     */
+    private static InputStream nonNull(InputStream in) throws IllegalArgumentException {
+        Assert.notNull(in, "Input stream cannot be null.");
+        return in;
+    }
+
+    /**
+     * Handler of a single record.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Handle a record.
+         *
+         * @param record Buffer whose remaining bytes are the record. Reused for subsequent records.
+         * @throws IOException If record could not be handled (aborts reading).
+         */
+        void onRecord(ByteBuffer record) throws IOException;
+    }
+
+    /**
+     * A read-only channel over a range of a file, using positional reads (so several may share a file channel).
+     */
+    private static final class RangeChannel implements ReadableByteChannel {
+
+        private final FileChannel channel;
+
+        private final long end;
+
+        private long position;
+
+        RangeChannel(FileChannel channel, long from, long to) {
+            this.channel = channel;
+            this.position = from;
+            this.end = to;
+        }
+
+        @Override
+        public int read(ByteBuffer target) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int limit = target.limit();
+            target.limit((int) Math.min(limit, target.position() + end - position));
+            try {
+                int read = channel.read(target, position);
+                if (read > 0) {
+                    position += read;
+                }
+                return read;
+            } finally {
+                target.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // Underlying channel is shared, and closed by its owner.
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package gcommon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.springframework.util.Assert;
+
+/**
+ * A registry of resources that are closed together, either sequentially or in parallel with a deadline. Unlike
+ * {@link IOUtils#forceClose(Closeable)}, failures are not dropped; they are collected, along with per-type timings,
+ * into a {@link CloseReport}.<p>
+ * Resources are closed in reverse order of registration when closing sequentially (as with try-with-resources). When
+ * closing in parallel, resources are split into batches, each closed sequentially by a single task, so thousands of
+ * resources do not translate into thousands of tasks. Once closed, a scope can no longer be used. Instances are
+ * thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ResourceScope implements Closeable {
+
+    /**
+     * Number of resources closed by a single task, when closing in parallel.
+     */
+    static final int BATCH_SIZE = 64;
+
+    /**
+     * Registered resources, or {@code null} once closed.
+     */
+    private List<AutoCloseable> resources = new ArrayList<>();
+
+    /**
+     * Register a resource.
+     *
+     * @param resource Resource to register.
+     * @param <T>      Generic type of resource.
+     * @return <i>resource</i>.
+     * @throws IllegalArgumentException If <i>resource</i> is {@code null}.
+     * @throws IllegalStateException    If scope is already closed.
+     */
+    public synchronized <T extends AutoCloseable> T register(T resource)
+            throws IllegalArgumentException, IllegalStateException {
+        Assert.notNull(resource, "Resource cannot be null.");
+        Assert.state(resources != null, "Scope is closed.");
+        resources.add(resource);
+        return resource;
+    }
+
+    /**
+     * @return Number of registered resources (0 once closed).
+     */
+    public synchronized int size() {
+        return resources != null ? resources.size() : 0;
+    }
+
+    /**
+     * Close all registered resources sequentially, in reverse order of registration (see {@link #closeAll()}). Every
+     * resource is closed even if others fail; failures are then thrown as a single exception. Subsequent calls have no
+     * effect.
+     *
+     * @throws IOException If any resource failed to close, with all failures attached as suppressed exceptions.
+     */
+    @Override
+    public void close() throws IOException {
+        closeAll().throwIfFailed();
+    }
+
+    /**
+     * Close all registered resources sequentially, in reverse order of registration. Subsequent calls have no effect
+     * (and return an empty report).
+     *
+     * @return Report of closing.
+     */
+    public CloseReport closeAll() {
+        List<AutoCloseable> toClose = detach();
+        Collections.reverse(toClose);
+        return new BulkClose(toClose).run(Runnable::run, Long.MAX_VALUE);
+    }
+
+    /**
+     * Close all registered resources in parallel, in batches executed by a given <i>executor</i>, waiting up to a
+     * given deadline. Resources that do not complete closing by the deadline are reported as timed-out (and continue
+     * closing in the background). Subsequent calls have no effect (and return an empty report).
+     *
+     * @param executor Executor to close resources with.
+     * @param timeout  Maximum time to wait.
+     * @param unit     Unit of <i>timeout</i>.
+     * @return Report of closing.
+     * @throws IllegalArgumentException If either <i>executor</i> or <i>unit</i> are {@code null}, or <i>timeout</i> is
+     *                                  negative.
+     */
+    public CloseReport closeAll(Executor executor, long timeout, TimeUnit unit) throws IllegalArgumentException {
+        Assert.notNull(executor, "Executor cannot be null.");
+        Assert.notNull(unit, "Time unit cannot be null.");
+        Assert.isTrue(timeout >= 0, "Timeout cannot be negative.");
+
+        return new BulkClose(detach()).run(executor, unit.toNanos(timeout));
+    }
+
+    /**
+     * Close a set of resources sequentially, collecting failures.
+     *
+     * @param resources Resources to close ({@code null} elements are ignored).
+     * @return Report of closing.
+     * @throws IllegalArgumentException If <i>resources</i> is {@code null}.
+     */
+    public static CloseReport closeAll(Iterable<? extends AutoCloseable> resources) throws IllegalArgumentException {
+        Assert.notNull(resources, "Resources cannot be null.");
+        List<AutoCloseable> toClose = new ArrayList<>();
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                toClose.add(resource);
+            }
+        }
+        return new BulkClose(toClose).run(Runnable::run, Long.MAX_VALUE);
+    }
+
+    /**
+     * Mark scope as closed.
+     *
+     * @return Registered resources.
+     */
+    private synchronized List<AutoCloseable> detach() {
+        List<AutoCloseable> detached = resources != null ? resources : new ArrayList<>();
+        resources = null;
+        return detached;
+    }
+
+    /**
+     * A single bulk-close operation. Each resource has a slot in a few parallel arrays; a slot is written by the task
+     * closing the resource and published by setting its state.
+     */
+    private static final class BulkClose {
+
+        private static final int PENDING = 0;
+
+        private static final int DONE = 1;
+
+        private final List<AutoCloseable> resources;
+
+        private final AtomicIntegerArray states;
+
+        private final Throwable[] failures;
+
+        private final long[] durations;
+
+        BulkClose(List<AutoCloseable> resources) {
+            this.resources = resources;
+            this.states = new AtomicIntegerArray(resources.size());
+            this.failures = new Throwable[resources.size()];
+            this.durations = new long[resources.size()];
+        }
+
+        /**
+         * Close all resources.
+         *
+         * @param executor     Executor to run batches on.
+         * @param timeoutNanos Maximum time to wait, in nanoseconds.
+         * @return Report of closing.
+         */
+        CloseReport run(Executor executor, long timeoutNanos) {
+            if (resources.isEmpty()) {
+                return CloseReport.EMPTY;
+            }
+
+            int batches = (resources.size() + BATCH_SIZE - 1) / BATCH_SIZE;
+            CountDownLatch latch = new CountDownLatch(batches);
+            for (int batch = 0; batch < batches; batch++) {
+                int from = batch * BATCH_SIZE;
+                int to = Math.min(from + BATCH_SIZE, resources.size());
+                Runnable task = () -> {
+                    try {
+                        for (int index = from; index < to; index++) {
+                            closeOne(index);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    // Executor is saturated or shut down - close on caller's thread.
+                    task.run();
+                }
+            }
+
+            try {
+                latch.await(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException ex) {
+                // Report whatever completed so far.
+                Thread.currentThread().interrupt();
+            }
+
+            return report();
+        }
+
+        private void closeOne(int index) {
+            long start = System.nanoTime();
+            try {
+                resources.get(index).close();
+            } catch (Throwable ex) {
+                failures[index] = ex;
+            }
+            durations[index] = System.nanoTime() - start;
+            states.set(index, DONE);
+        }
+
+        private CloseReport report() {
+            int closed = 0;
+            List<Throwable> failed = new ArrayList<>();
+            List<AutoCloseable> timedOut = new ArrayList<>();
+            Map<Class<?>, long[]> totals = new HashMap<>();
+            for (int index = 0; index < resources.size(); index++) {
+                AutoCloseable resource = resources.get(index);
+                if (states.get(index) != DONE) {
+                    timedOut.add(resource);
+                    continue;
+                }
+
+                closed++;
+                if (failures[index] != null) {
+                    failed.add(failures[index]);
+                }
+
+                // {count, total, max}
+                long[] total = totals.computeIfAbsent(resource.getClass(), type -> new long[3]);
+                total[0]++;
+                total[1] += durations[index];
+                total[2] = Math.max(total[2], durations[index]);
+            }
+
+            Map<Class<?>, CloseReport.TypeTiming> timings = new HashMap<>();
+            totals.forEach((type, total) ->
+                    timings.put(type, new CloseReport.TypeTiming(type, (int) total[0], total[1], total[2])));
+
+            return new CloseReport(closed, Collections.unmodifiableList(failed),
+                    Collections.unmodifiableList(timedOut), Collections.unmodifiableMap(timings));
+        }
+    }
+}
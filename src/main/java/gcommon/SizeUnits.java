@@ -1,31 +1,279 @@
 package gcommon;
 
 /**
- * Enumeration of common size units.
+ * Enumeration of common (binary) size units, with conversion, parsing and formatting of sizes.<p>
+ * Magnitudes are powers of 1,024, so conversions are performed with shifts rather than divisions. Parsing accepts a
+ * number (optionally with a fraction), optionally followed by a unit symbol (case-insensitive) and an optional
+ * {@code B}/{@code iB} suffix, e.g.: {@code "512"}, {@code "512M"}, {@code "1.5G"}, {@code "10 KB"} or
+ * {@code "2GiB"}. Neither parsing nor conversion allocate.
  *
  * @author Guy Raz Nir
  * @since 25/06/2016
  */
 public enum SizeUnits {
 
-    BYTES(""),
-    KB("K"),
-    MB("M"),
-    GB("G"),
-    TB("T");
+    BYTES("", 0),
+    KB("K", 10),
+    MB("M", 20),
+    GB("G", 30),
+    TB("T", 40),
+    PB("P", 50),
+    EB("E", 60);
 
     /**
      * Symbol representing the unit.
      */
     public final String symbol;
 
+    /**
+     * Binary logarithm of {@link #magnitude}.
+     */
+    public final int shift;
+
+    /**
+     * No. of bytes per this unit.
+     */
+    public final long magnitude;
+
+    /**
+     * Cached {@link #values()}, which otherwise clones the array on every call.
+     */
+    private static final SizeUnits[] UNITS = values();
+
     /**
      * Class constructor.
      *
      * @param symbol Symbol representing the unit.
+     * @param shift  Binary logarithm of unit's magnitude.
      */
-    SizeUnits(String symbol) {
+    SizeUnits(String symbol, int shift) {
         this.symbol = symbol;
+        this.shift = shift;
+        this.magnitude = 1L << shift;
+    }
+
+    /**
+     * Convert a size in this unit to bytes.
+     *
+     * @param size Size in this unit.
+     * @return Size in bytes.
+     * @throws ArithmeticException If result overflows a {@code long}.
+     */
+    public long toBytes(long size) throws ArithmeticException {
+        if (size > (Long.MAX_VALUE >> shift) || size < (Long.MIN_VALUE >> shift)) {
+            throw new ArithmeticException("Size overflow: " + size + symbol + ".");
+        }
+        return size << shift;
+    }
+
+    /**
+     * Convert a size in bytes to this unit, truncating any remainder (e.g.: 1,536 bytes are 1 KB).
+     *
+     * @param bytes Size in bytes.
+     * @return Size in this unit.
+     */
+    public long fromBytes(long bytes) {
+        // Shift rounds toward negative infinity - correct negative values to truncate toward zero, like division.
+        return (bytes + ((bytes >> 63) & (magnitude - 1))) >> shift;
+    }
+
+    /**
+     * Convert a size in a given unit to this unit, truncating any remainder.
+     *
+     * @param size Size to convert.
+     * @param unit Unit of <i>size</i>.
+     * @return Size in this unit.
+     * @throws ArithmeticException If result overflows a {@code long}.
+     */
+    public long convert(long size, SizeUnits unit) throws ArithmeticException {
+        return unit.shift >= shift ? UNITS[unit.ordinal() - ordinal()].toBytes(size)
+                : UNITS[ordinal() - unit.ordinal()].fromBytes(size);
     }
 
+    /**
+     * @return The largest unit whose magnitude does not exceed <i>bytes</i> (in absolute value), or {@link #BYTES} for
+     * sizes smaller than 1 KB.
+     */
+    public static SizeUnits unitOf(long bytes) {
+        long absolute = bytes == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(bytes);
+        return UNITS[(63 - Long.numberOfLeadingZeros(absolute | 1)) / 10];
+    }
+
+    /**
+     * Find unit by symbol.
+     *
+     * @param symbol Symbol of unit (case-insensitive), e.g.: 'K'.
+     * @return Matching unit, or {@code null} if no unit matches.
+     */
+    public static SizeUnits ofSymbol(char symbol) {
+        switch (Character.toUpperCase(symbol)) {
+            case 'K':
+                return KB;
+            case 'M':
+                return MB;
+            case 'G':
+                return GB;
+            case 'T':
+                return TB;
+            case 'P':
+                return PB;
+            case 'E':
+                return EB;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Parse a size (see class description for format). A fraction is truncated to whole bytes.
+     *
+     * @param text Text to parse.
+     * @return Size, in bytes.
+     * @throws NumberFormatException If <i>text</i> is {@code null}, is not a valid size, or overflows a {@code long}.
+     */
+    public static long parse(CharSequence text) throws NumberFormatException {
+        if (text == null) {
+            throw new NumberFormatException("Size cannot be null.");
+        }
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parse a size from a range of a character sequence (see class description for format). A fraction is truncated to
+     * whole bytes. Leading and trailing whitespace is ignored.
+     *
+     * @param text  Text to parse.
+     * @param start Start of range (inclusive).
+     * @param end   End of range (exclusive).
+     * @return Size, in bytes.
+     * @throws NumberFormatException     If <i>text</i> is {@code null}, range is not a valid size, or overflows a
+     *                                   {@code long}.
+     * @throws IndexOutOfBoundsException If range is out of <i>text</i>'s bounds.
+     */
+    public static long parse(CharSequence text, int start, int end)
+            throws NumberFormatException, IndexOutOfBoundsException {
+        if (text == null) {
+            throw new NumberFormatException("Size cannot be null.");
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") is out of bounds of text of "
+                    + "length " + text.length() + ".");
+        }
+
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+
+        // Integral part.
+        int position = start;
+        long integral = 0;
+        while (position < end && isDigit(text.charAt(position))) {
+            int digit = text.charAt(position++) - '0';
+            if (integral > (Long.MAX_VALUE - digit) / 10) {
+                throw invalid(text, start, end);
+            }
+            integral = integral * 10 + digit;
+        }
+        boolean hasDigits = position > start;
+
+        // Fraction (up to 18 significant digits; further digits are ignored).
+        long fraction = 0;
+        long scale = 1;
+        if (position < end && text.charAt(position) == '.') {
+            position++;
+            while (position < end && isDigit(text.charAt(position))) {
+                if (scale <= 100_000_000_000_000_000L / 10) {
+                    fraction = fraction * 10 + (text.charAt(position) - '0');
+                    scale *= 10;
+                }
+                position++;
+                hasDigits = true;
+            }
+        }
+        if (!hasDigits) {
+            throw invalid(text, start, end);
+        }
+
+        // Unit (optional), followed by optional 'B' or 'iB'.
+        while (position < end && text.charAt(position) == ' ') {
+            position++;
+        }
+        SizeUnits unit = BYTES;
+        if (position < end && ofSymbol(text.charAt(position)) != null) {
+            unit = ofSymbol(text.charAt(position++));
+            if (position < end && (text.charAt(position) == 'i' || text.charAt(position) == 'I')) {
+                position++;
+            }
+        }
+        if (position < end && (text.charAt(position) == 'B' || text.charAt(position) == 'b')) {
+            position++;
+        }
+        if (position != end) {
+            throw invalid(text, start, end);
+        }
+
+        try {
+            long bytes = unit.toBytes(integral);
+            if (fraction != 0) {
+                bytes = Math.addExact(bytes, (long) ((double) fraction / scale * unit.magnitude));
+            }
+            return bytes;
+        } catch (ArithmeticException ex) {
+            throw invalid(text, start, end);
+        }
+    }
+
+    /**
+     * Format a size in the largest unit it spans, with up to 2 (truncated) decimal digits and no trailing zeros, e.g.:
+     * 1,536 bytes are formatted as {@code "1.5K"}, and 512 bytes as {@code "512"}.
+     *
+     * @param bytes Size in bytes.
+     * @return Formatted size.
+     */
+    public static String format(long bytes) {
+        return appendTo(new StringBuilder(12), bytes).toString();
+    }
+
+    /**
+     * Append a formatted size to a buffer (see {@link #format(long)}).
+     *
+     * @param buf   Buffer to append to.
+     * @param bytes Size in bytes.
+     * @return <i>buf</i>.
+     */
+    public static StringBuilder appendTo(StringBuilder buf, long bytes) {
+        SizeUnits unit = unitOf(bytes);
+        long integral = unit.fromBytes(bytes);
+        long remainder = bytes - (integral << unit.shift);
+        if (bytes < 0) {
+            buf.append('-');
+            integral = -integral;
+            remainder = -remainder;
+        }
+        buf.append(integral);
+
+        // Two decimal digits of the remainder, truncated: remainder * 100 / magnitude (dropping low bits of huge
+        // remainders, so the multiplication cannot overflow).
+        int drop = Math.max(0, unit.shift - 56);
+        int hundredths = (int) (((remainder >>> drop) * 100) >>> (unit.shift - drop));
+        if (hundredths != 0) {
+            buf.append('.').append((char) ('0' + hundredths / 10));
+            if (hundredths % 10 != 0) {
+                buf.append((char) ('0' + hundredths % 10));
+            }
+        }
+
+        return buf.append(unit.symbol);
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static NumberFormatException invalid(CharSequence text, int start, int end) {
+        return new NumberFormatException("Invalid size: '" + text.subSequence(start, end) + "'.");
+    }
 }
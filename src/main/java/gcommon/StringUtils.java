@@ -1,8 +1,11 @@
 package gcommon;
 
-import java.text.NumberFormat;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Formatter;
-import java.util.regex.Pattern;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.springframework.util.Assert;
 
 /**
@@ -14,45 +17,49 @@ import org.springframework.util.Assert;
 public class StringUtils {
 
     /**
-     * Number formatting utilities.
+     * Hexadecimal digits.
      */
-    private static final NumberFormat numberFormat = NumberFormat.getInstance();
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
 
     /**
-     * Regular expression to validate E-mail string.
+     * Maximum number of bytes encoded at once, so the encoded length ({@code length * 2}) fits an {@code int}.
      */
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[_A-Za-z0-9-+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$");
+    private static final int MAX_HEX_LENGTH = Integer.MAX_VALUE / 2;
 
     /**
-     * Hexadecimal digits.
+     * Lookup table of hexadecimal pairs, indexed by (unsigned) byte value. Each entry holds the high digit in the upper
+     * 8 bits and the low digit in the lower 8 bits, so a whole byte is encoded with a single table access.
      */
-    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final short[] HEX_PAIRS = new short[256];
 
     /**
-     * Enumeration units.
+     * Lookup table of hexadecimal digit values, indexed by ASCII character. Non-hexadecimal characters map to -1.
      */
-    enum SizeUnits {
-        BYTES(1L),
-        KB(1024L),
-        MB(1024L * 1024L),
-        GB(1024L * 1024L * 1024L),
-        TB(1024L * 1024L * 1024L * 1024L);
+    private static final byte[] HEX_VALUES = new byte[128];
 
-        /**
-         * No. of bytes per this unit.
-         */
-        public final long magnitude;
+    static {
+        for (int value = 0; value < HEX_PAIRS.length; value++) {
+            HEX_PAIRS[value] = (short) (HEX_DIGITS[value >> 4] << 8 | HEX_DIGITS[value & 0x0F]);
+        }
 
-        /**
-         * Class constructor.
-         *
-         * @param magnitude Number of bytes per unit.
-         */
-        SizeUnits(long magnitude) {
-            this.magnitude = magnitude;
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int value = 0; value < 16; value++) {
+            HEX_VALUES[HEX_DIGITS[value]] = (byte) value;
+            HEX_VALUES[Character.toUpperCase(HEX_DIGITS[value])] = (byte) value;
         }
     }
 
+    /**
+     * Maximum number of compiled templates kept by {@link #formats(StringBuilder, String, Object...)}.
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 256;
+
+    /**
+     * Templates compiled on behalf of {@link #formats(StringBuilder, String, Object...)}, keyed by format. Formats are
+     * typically string literals, so a small cache covers the common case. Once full, formats are no longer cached.
+     */
+    private static final ConcurrentMap<String, FormatTemplate> templateCache = new ConcurrentHashMap<>();
+
     /**
      * Build a string based on a given <i>format</i> and a collection of <i>arguments</i>. The specific
      * format can be reviewed in {@link java.util.Formatter} documentation.
@@ -87,10 +94,33 @@ public class StringUtils {
             targetBuf = new StringBuilder(format.length());
         }
 
-        Formatter formatter = new Formatter(targetBuf);
-        formatter.format(format, arguments);
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        FormatTemplate template = templateCache.get(format);
+        if (template == null || !template.getLocale().equals(locale)) {
+            if (template == null && templateCache.size() >= TEMPLATE_CACHE_SIZE) {
+                // Cache is full (probably due to dynamically generated formats). Fall back to plain formatter.
+                return FormatTemplate.formatTo(targetBuf, locale, format, arguments);
+            }
+
+            template = FormatTemplate.compile(locale, format);
+            templateCache.put(format, template);
+        }
+
+        return template.appendTo(targetBuf, arguments);
+    }
 
-        return targetBuf;
+    /**
+     * Compile a given <i>format</i> into a reusable template. A template parses the format once, and renders common
+     * specifiers ({@code %s}, {@code %d}, {@code %x}, {@code %,d}) without a {@link Formatter}. This is the preferred
+     * approach for formats used on hot paths (e.g.: logging or message building).
+     *
+     * @param format Format of string (e.g.: 'Hello there Mr. %s').
+     * @return Compiled template, bound to the current default formatting locale.
+     * @throws IllegalArgumentException If <i>format</i> is {@code null}.
+     * @see FormatTemplate
+     */
+    public static FormatTemplate compile(String format) throws IllegalArgumentException {
+        return FormatTemplate.compile(format);
     }
 
     /**
@@ -105,24 +135,40 @@ public class StringUtils {
     }
 
     /**
-     * Format a given value to convenient human-readable string including thousands separator.
+     * Format a given value to convenient human-readable string including thousands separator. This method is
+     * thread-safe.
      *
      * @param value Value to format.
      * @return Formatted value.
+     * @see GroupedNumberFormat
      */
     public static String formatNumber(long value) {
-        return numberFormat.format(value);
+        return GroupedNumberFormat.getInstance().format(value);
     }
 
     /**
-     * Test if a given <i>email</i> string is a valid E-mail address. The matching is based on RFC-5322 with some
-     * extensions.
+     * Format a given value to convenient human-readable string including thousands separator. This method is
+     * thread-safe and does not allocate (other than growing <i>targetBuf</i>, if required).
+     *
+     * @param targetBuf Target buffer to place formatted value.
+     * @param value     Value to format.
+     * @return <i>targetBuf</i>.
+     * @throws IllegalArgumentException If <i>targetBuf</i> is {@code null}.
+     * @see GroupedNumberFormat
+     */
+    public static StringBuilder formatNumber(StringBuilder targetBuf, long value) throws IllegalArgumentException {
+        return GroupedNumberFormat.getInstance().appendTo(targetBuf, value);
+    }
+
+    /**
+     * Test if a given <i>email</i> string is a valid E-mail address. The matching is based on RFC-5322 <i>dot-atom</i>
+     * form and runs in linear time (same rules as {@link ValidationUtil#isValidEmail(String)}).
      *
      * @param email E-mail address to validate.
      * @return {@code true} if provided string is a valid E-mail address, {@code false} if not.
      */
     public static boolean isValidEmail(String email) {
-        return email != null && EMAIL_PATTERN.matcher(email).matches();
+        return email != null && EmailValidator.isValid(email);
     }
 
     /**
@@ -133,17 +179,210 @@ public class StringUtils {
      * value is returned. If <i>data.length == 0</i>, the returned value is empty string.
      */
     public static String toString(byte[] data) {
-        if (data == null) {
+        return data == null ? null : toHex(data, 0, data.length);
+    }
+
+    /**
+     * Convert a range of bytes to a lower-case hexadecimal string.
+     *
+     * @param data   Data to convert.
+     * @param offset Offset of first byte to convert.
+     * @param length Number of bytes to convert.
+     * @return Hexadecimal representation of the given range.
+     * @throws IllegalArgumentException  If <i>data</i> is {@code null}, or <i>length</i> exceeds
+     *                                   {@code Integer.MAX_VALUE / 2}.
+     * @throws IndexOutOfBoundsException If range exceeds <i>data</i> bounds.
+     */
+    @SuppressWarnings("deprecation")
+    public static String toHex(byte[] data, int offset, int length)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        Assert.notNull(data, "Data cannot be null.");
+        checkRange(data.length, offset, length);
+        checkHexLength(length);
+
+        byte[] ascii = new byte[length * 2];
+        encodeHex(data, offset, length, ascii, 0);
+
+        // Hexadecimal digits are ASCII, so the string is built without charset decoding. On compact-strings JVMs
+        // this constructor copies the bytes as-is (Latin-1 coder).
+        return new String(ascii, 0, 0, ascii.length);
+    }
+
+    /**
+     * Encode a range of bytes as lower-case hexadecimal characters into a caller-supplied buffer.
+     *
+     * @param src       Source data.
+     * @param srcOffset Offset of first byte to encode.
+     * @param length    Number of bytes to encode.
+     * @param dst       Target buffer. Must have room for {@code length * 2} characters.
+     * @param dstOffset Offset in <i>dst</i> to write first character.
+     * @return Offset in <i>dst</i> following the last written character.
+     * @throws IllegalArgumentException  If either <i>src</i> or <i>dst</i> are {@code null}, or <i>length</i> exceeds
+     *                                   {@code Integer.MAX_VALUE / 2}.
+     * @throws IndexOutOfBoundsException If either ranges exceed their array bounds.
+     */
+    public static int encodeHex(byte[] src, int srcOffset, int length, char[] dst, int dstOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        Assert.notNull(src, "Source cannot be null.");
+        Assert.notNull(dst, "Destination cannot be null.");
+        checkRange(src.length, srcOffset, length);
+        checkHexLength(length);
+        checkRange(dst.length, dstOffset, length * 2);
+
+        int position = dstOffset;
+        for (int index = srcOffset, end = srcOffset + length; index < end; index++) {
+            int pair = HEX_PAIRS[src[index] & 0xFF];
+            dst[position++] = (char) (pair >> 8);
+            dst[position++] = (char) (pair & 0xFF);
+        }
+
+        return position;
+    }
+
+    /**
+     * Encode a range of bytes as lower-case hexadecimal ASCII bytes into a caller-supplied buffer.
+     *
+     * @param src       Source data.
+     * @param srcOffset Offset of first byte to encode.
+     * @param length    Number of bytes to encode.
+     * @param dst       Target buffer. Must have room for {@code length * 2} bytes.
+     * @param dstOffset Offset in <i>dst</i> to write first character.
+     * @return Offset in <i>dst</i> following the last written character.
+     * @throws IllegalArgumentException  If either <i>src</i> or <i>dst</i> are {@code null}, or <i>length</i> exceeds
+     *                                   {@code Integer.MAX_VALUE / 2}.
+     * @throws IndexOutOfBoundsException If either ranges exceed their array bounds.
+     */
+    public static int encodeHex(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        Assert.notNull(src, "Source cannot be null.");
+        Assert.notNull(dst, "Destination cannot be null.");
+        checkRange(src.length, srcOffset, length);
+        checkHexLength(length);
+        checkRange(dst.length, dstOffset, length * 2);
+
+        int position = dstOffset;
+        for (int index = srcOffset, end = srcOffset + length; index < end; index++) {
+            int pair = HEX_PAIRS[src[index] & 0xFF];
+            dst[position++] = (byte) (pair >> 8);
+            dst[position++] = (byte) pair;
+        }
+
+        return position;
+    }
+
+    /**
+     * Encode all remaining bytes of <i>src</i> as lower-case hexadecimal ASCII bytes into <i>dst</i>. Upon completion,
+     * <i>src</i> position equals its limit and <i>dst</i> position is advanced by the number of written bytes.
+     *
+     * @param src Source buffer.
+     * @param dst Target buffer. Must have at least {@code src.remaining() * 2} bytes remaining.
+     * @throws IllegalArgumentException If either buffers are {@code null}, <i>src</i> has more than
+     *                                  {@code Integer.MAX_VALUE / 2} bytes remaining, or <i>dst</i> does not have
+     *                                  enough room.
+     */
+    public static void encodeHex(ByteBuffer src, ByteBuffer dst) throws IllegalArgumentException {
+        Assert.notNull(src, "Source cannot be null.");
+        Assert.notNull(dst, "Destination cannot be null.");
+        int length = src.remaining();
+        checkHexLength(length);
+        Assert.isTrue(dst.remaining() >= length * 2, "Destination buffer too small (required " + length * 2
+                + " bytes, available " + dst.remaining() + ").");
+
+        if (src.hasArray() && dst.hasArray()) {
+            // Heap buffers - encode directly between backing arrays.
+            int dstPosition = dst.position();
+            encodeHex(src.array(), src.arrayOffset() + src.position(), length,
+                    dst.array(), dst.arrayOffset() + dstPosition);
+            src.position(src.limit());
+            dst.position(dstPosition + length * 2);
+        } else {
+            while (src.hasRemaining()) {
+                int pair = HEX_PAIRS[src.get() & 0xFF];
+                dst.put((byte) (pair >> 8)).put((byte) pair);
+            }
+        }
+    }
+
+    /**
+     * Decode a hexadecimal string (either lower-case or upper-case) into bytes.
+     *
+     * @param hex Hexadecimal characters to decode.
+     * @return Decoded bytes. If <i>hex</i> is {@code null}, a {@code null} value is returned.
+     * @throws IllegalArgumentException If <i>hex</i> has odd length or contains a non-hexadecimal character.
+     */
+    public static byte[] fromHex(CharSequence hex) throws IllegalArgumentException {
+        if (hex == null) {
             return null;
         }
 
-        char[] characters = new char[data.length * 2];
-        for (int index = 0; index < data.length; index++) {
-            int value = ((int) data[index]) & 0xFF;
-            characters[index * 2] = HEX_DIGITS[value >> 4];
-            characters[index * 2 + 1] = HEX_DIGITS[value & 0x0F];
+        Assert.isTrue((hex.length() & 1) == 0, "Hexadecimal string must have even length (actual: " + hex.length() + ").");
+        byte[] data = new byte[hex.length() / 2];
+        decodeHex(hex, 0, hex.length(), data, 0);
+        return data;
+    }
+
+    /**
+     * Decode a range of hexadecimal characters (either lower-case or upper-case) into a caller-supplied buffer.
+     *
+     * @param hex       Hexadecimal characters to decode.
+     * @param start     Index of first character to decode.
+     * @param end       Index following the last character to decode. Range length must be even.
+     * @param dst       Target buffer. Must have room for {@code (end - start) / 2} bytes.
+     * @param dstOffset Offset in <i>dst</i> to write first byte.
+     * @return Number of decoded bytes.
+     * @throws IllegalArgumentException  If <i>hex</i> or <i>dst</i> are {@code null}, range has odd length or
+     *                                   contains a non-hexadecimal character.
+     * @throws IndexOutOfBoundsException If either ranges exceed their bounds.
+     */
+    public static int decodeHex(CharSequence hex, int start, int end, byte[] dst, int dstOffset)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        Assert.notNull(hex, "Hexadecimal string cannot be null.");
+        Assert.notNull(dst, "Destination cannot be null.");
+        checkRange(hex.length(), start, end - start);
+        Assert.isTrue(((end - start) & 1) == 0, "Hexadecimal range must have even length (actual: " + (end - start) + ").");
+        int length = (end - start) / 2;
+        checkRange(dst.length, dstOffset, length);
+
+        int position = dstOffset;
+        for (int index = start; index < end; index += 2) {
+            char high = hex.charAt(index);
+            char low = hex.charAt(index + 1);
+
+            // Invalid characters yield negative values, so a single test per pair detects them.
+            int value = (high < 128 ? HEX_VALUES[high] << 4 : -1) | (low < 128 ? HEX_VALUES[low] : -1);
+            if (value < 0) {
+                int badIndex = high < 128 && HEX_VALUES[high] >= 0 ? index + 1 : index;
+                throw new IllegalArgumentException("Invalid hexadecimal character '" + hex.charAt(badIndex)
+                        + "' at index " + badIndex + ".");
+            }
+            dst[position++] = (byte) value;
         }
 
-        return new String(characters);
+        return length;
+    }
+
+    /**
+     * Verify that <i>length</i> bytes can be hex-encoded into a single array.
+     *
+     * @throws IllegalArgumentException If <i>length</i> exceeds {@link #MAX_HEX_LENGTH}.
+     */
+    private static void checkHexLength(int length) throws IllegalArgumentException {
+        Assert.isTrue(length <= MAX_HEX_LENGTH, "Data too large to hex-encode (" + length + " bytes, maximum "
+                + MAX_HEX_LENGTH + ").");
+    }
+
+    /**
+     * Verify that a range of a given <i>length</i> starting at <i>offset</i> lies within an array of <i>size</i>.
+     *
+     * @param size   Size of array.
+     * @param offset Start of range.
+     * @param length Length of range.
+     * @throws IndexOutOfBoundsException If range exceeds array bounds.
+     */
+    private static void checkRange(int size, int offset, int length) throws IndexOutOfBoundsException {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length
+                    + ") out of bounds for length " + size + ".");
+        }
     }
 }
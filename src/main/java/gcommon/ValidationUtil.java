@@ -1,7 +1,12 @@
 package gcommon;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import org.springframework.util.Assert;
 
 /**
@@ -13,21 +18,21 @@ import org.springframework.util.Assert;
 public class ValidationUtil {
 
     /**
-     * RFC-822 regular expression that specify E-mail address.
+     * Minimal number of rows for which bulk validation is split across a fork/join pool.
      */
-    private static final String EMAIL_PATTERN_EXPRESSION = "[a-z0-9!#$%&'*+/=?^_`{|}~-]+(?:\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*@(?:[a-z0-9](?:[a-z0-9-]*[a-z0-9])?\\.)+[a-z0-9](?:[a-z0-9-]*[a-z0-9])?";
+    static final int PARALLEL_THRESHOLD = 16 * 1024;
 
     /**
-     * A regular expression pattern matcher.
+     * Number of rows validated by a single fork/join task. Must be a multiple of 64, so each task owns distinct words
+     * of the result bit set.
      */
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_PATTERN_EXPRESSION);
-
-    /** Maximum length of an E-mail address. */
-    private static final int EMAIL_MAX_LENGTH = 256;
+    private static final int BATCH_SIZE = 4 * 1024;
 
     /**
      * Validate that a given E-mail address string has valid format. This method does not actually validate that the
-     * given <i>email</i> actually exist.
+     * given <i>email</i> actually exist.<p>
+     * Validation runs in linear time with respect to the length of <i>email</i> (see {@link EmailValidator} for the
+     * accepted grammar).
      *
      * @param email E-mail string to validate format.
      * @return {@code true} if E-mail has validate format, {@code false} otherwise.
@@ -35,8 +40,122 @@ public class ValidationUtil {
      */
     public static boolean isValidEmail(String email) throws IllegalArgumentException {
         Assert.notNull(email, "E-mail cannot be null.");
+        return EmailValidator.isValid(email);
+    }
+
+    /**
+     * Validate that a range of a given character sequence is a valid E-mail address. Useful for validating fields
+     * directly within parse buffers (e.g.: a {@link java.nio.CharBuffer} view), without creating strings.
+     *
+     * @param email Character sequence holding the E-mail address.
+     * @param start Index of first character of the address.
+     * @param end   Index following the last character of the address.
+     * @return {@code true} if E-mail has validate format, {@code false} otherwise.
+     * @throws IllegalArgumentException  If <i>email</i> is {@code null}.
+     * @throws IndexOutOfBoundsException If range exceeds <i>email</i> bounds.
+     */
+    public static boolean isValidEmail(CharSequence email, int start, int end)
+            throws IllegalArgumentException, IndexOutOfBoundsException {
+        Assert.notNull(email, "E-mail cannot be null.");
+        if (start < 0 || end > email.length() || start > end) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+                    + email.length() + ".");
+        }
+        return EmailValidator.isValid(email, start, end);
+    }
+
+    /**
+     * Validate a list of E-mail addresses. Large lists (see {@link #PARALLEL_THRESHOLD}) are validated in parallel
+     * using the common fork/join pool.
+     *
+     * @param emails E-mail addresses to validate. {@code null} elements are considered invalid.
+     * @return Validation result, where row <i>n</i> corresponds to <i>emails[n]</i>.
+     * @throws IllegalArgumentException If <i>emails</i> is {@code null}.
+     */
+    public static BulkValidationResult validateEmails(List<? extends CharSequence> emails)
+            throws IllegalArgumentException {
+        return validateEmails(emails, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate an array of E-mail addresses. Large arrays (see {@link #PARALLEL_THRESHOLD}) are validated in parallel
+     * using the common fork/join pool.
+     *
+     * @param emails E-mail addresses to validate. {@code null} elements are considered invalid.
+     * @return Validation result, where row <i>n</i> corresponds to <i>emails[n]</i>.
+     * @throws IllegalArgumentException If <i>emails</i> is {@code null}.
+     */
+    public static BulkValidationResult validateEmails(CharSequence[] emails) throws IllegalArgumentException {
+        Assert.notNull(emails, "E-mails cannot be null.");
+        return validateEmails(Arrays.asList(emails), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validate a list of E-mail addresses. Large lists (see {@link #PARALLEL_THRESHOLD}) are validated in parallel
+     * using a given fork/join <i>pool</i>.
+     *
+     * @param emails E-mail addresses to validate. {@code null} elements are considered invalid.
+     * @param pool   Pool to execute parallel validation on.
+     * @return Validation result, where row <i>n</i> corresponds to <i>emails[n]</i>.
+     * @throws IllegalArgumentException If either <i>emails</i> or <i>pool</i> are {@code null}.
+     */
+    public static BulkValidationResult validateEmails(List<? extends CharSequence> emails, ForkJoinPool pool)
+            throws IllegalArgumentException {
+        Assert.notNull(emails, "E-mails cannot be null.");
+        Assert.notNull(pool, "Pool cannot be null.");
+
+        // Splitting requires efficient indexed access.
+        List<? extends CharSequence> rows = emails instanceof RandomAccess ? emails : new ArrayList<>(emails);
+
+        long[] words = new long[(rows.size() + 63) / 64];
+        EmailValidationTask task = new EmailValidationTask(rows, 0, rows.size(), words);
+        if (rows.size() < PARALLEL_THRESHOLD) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        return new BulkValidationResult(BitSet.valueOf(words), rows.size());
+    }
+
+    /**
+     * Fork/join task validating a range of E-mail addresses. Ranges are split on 64-rows boundaries, so each task
+     * writes distinct words of the result and no synchronization is required.
+     */
+    private static final class EmailValidationTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends CharSequence> emails;
+
+        private final int from;
+
+        private final int to;
+
+        private final long[] words;
+
+        EmailValidationTask(List<? extends CharSequence> emails, int from, int to, long[] words) {
+            this.emails = emails;
+            this.from = from;
+            this.to = to;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SIZE && getPool() != null) {
+                int middle = from + ((to - from) / 2 & -64);
+                invokeAll(new EmailValidationTask(emails, from, middle, words),
+                        new EmailValidationTask(emails, middle, to, words));
+                return;
+            }
 
-        Matcher matcher = EMAIL_PATTERN.matcher(email);
-        return email.length() <= EMAIL_MAX_LENGTH && matcher.matches();
+            for (int row = from; row < to; row++) {
+                CharSequence email = emails.get(row);
+                if (email != null && EmailValidator.isValid(email)) {
+                    words[row >>> 6] |= 1L << row;
+                }
+            }
+        }
     }
 }
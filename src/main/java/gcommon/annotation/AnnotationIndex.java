@@ -0,0 +1,163 @@
+package gcommon.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Index of annotated methods for a fixed set of annotation types. Each class is scanned once, in a single pass over
+ * its public methods, recording methods for all indexed annotation types at once; subsequent look-ups for that class
+ * (of any indexed type) are a map look-up. Look-ups for annotation types outside the index are delegated to
+ * {@link AnnotationUtils#getAnnotatedMethods(Class, Class)}.<p>
+ * Instances are thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class AnnotationIndex {
+
+    /**
+     * Indexed annotation types.
+     */
+    private final List<Class<? extends Annotation>> annotationTypes;
+
+    /**
+     * Per-class index: annotation type to unmodifiable list of annotated methods (absent if none).
+     */
+    private final ClassValue<Map<Class<? extends Annotation>, List<Method>>> index =
+            new ClassValue<Map<Class<? extends Annotation>, List<Method>>>() {
+                @Override
+                protected Map<Class<? extends Annotation>, List<Method>> computeValue(Class<?> type) {
+                    return scan(type);
+                }
+            };
+
+    /**
+     * Class constructor.
+     *
+     * @param annotationTypes Annotation types to index.
+     */
+    private AnnotationIndex(List<Class<? extends Annotation>> annotationTypes) {
+        this.annotationTypes = annotationTypes;
+    }
+
+    /**
+     * Create an index for a given set of annotation types.
+     *
+     * @param annotationTypes Annotation types to index.
+     * @return A new index.
+     * @throws IllegalArgumentException If <i>annotationTypes</i> is {@code null}, empty or contains {@code null}
+     *                                  elements.
+     */
+    @SafeVarargs
+    public static AnnotationIndex of(Class<? extends Annotation>... annotationTypes) throws IllegalArgumentException {
+        // Checked explicitly: passing a generic varargs array to Assert's Object[] overloads is an unsafe varargs use.
+        Assert.isTrue(annotationTypes != null && annotationTypes.length > 0,
+                "Annotation types cannot be null or empty.");
+
+        List<Class<? extends Annotation>> types = new ArrayList<>(annotationTypes.length);
+        for (Class<? extends Annotation> type : annotationTypes) {
+            Assert.notNull(type, "Annotation types cannot contain null elements.");
+            if (!types.contains(type)) {
+                types.add(type);
+            }
+        }
+
+        return new AnnotationIndex(Collections.unmodifiableList(types));
+    }
+
+    /**
+     * @return Unmodifiable list of indexed annotation types.
+     */
+    public List<Class<? extends Annotation>> getAnnotationTypes() {
+        return annotationTypes;
+    }
+
+    /**
+     * Locate all methods of an object that are immediately annotated with a given <i>annotationType</i>. Proxies are
+     * uncovered as in {@link AnnotationUtils#findAnnotatedMethod(Object, Class)}.
+     *
+     * @param object         Object to inspect methods.
+     * @param annotationType Type of annotation to search on methods.
+     * @return Unmodifiable (shared) list of annotated methods.
+     * @throws IllegalArgumentException If either <i>object</i> or <i>annotationType</i> are {@code null}.
+     */
+    public List<Method> getAnnotatedMethods(Object object, Class<? extends Annotation> annotationType)
+            throws IllegalArgumentException {
+        Assert.notNull(object, "Object cannot be null.");
+        return getAnnotatedMethods(AopProxyUtils.ultimateTargetClass(object), annotationType);
+    }
+
+    /**
+     * Locate all methods of a class that are immediately annotated with a given <i>annotationType</i>.
+     *
+     * @param clazz          Class to inspect methods.
+     * @param annotationType Type of annotation to search on methods.
+     * @return Unmodifiable (shared) list of annotated methods.
+     * @throws IllegalArgumentException If either <i>clazz</i> or <i>annotationType</i> are {@code null}.
+     */
+    public List<Method> getAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotationType)
+            throws IllegalArgumentException {
+        Assert.notNull(clazz, "Class cannot be null.");
+        Assert.notNull(annotationType, "Annotation type cannot be null.");
+
+        if (!annotationTypes.contains(annotationType)) {
+            return AnnotationUtils.getAnnotatedMethods(clazz, annotationType);
+        }
+
+        List<Method> methods = index.get(clazz).get(annotationType);
+        return methods != null ? methods : Collections.emptyList();
+    }
+
+    /**
+     * Scan public methods of a class for all indexed annotation types, in a single pass.
+     *
+     * @param clazz Class to scan.
+     * @return Map of annotation type to unmodifiable list of methods, excluding types with no annotated methods.
+     */
+    private Map<Class<? extends Annotation>, List<Method>> scan(Class<?> clazz) {
+        Map<Class<? extends Annotation>, List<Method>> result = new HashMap<>();
+        if (readGeneratedIndex(clazz, result)) {
+            return result.isEmpty() ? Collections.emptyMap() : result;
+        }
+
+        for (Method method : clazz.getMethods()) {
+            for (Annotation annotation : method.getDeclaredAnnotations()) {
+                if (annotationTypes.contains(annotation.annotationType())) {
+                    result.computeIfAbsent(annotation.annotationType(), type -> new ArrayList<>()).add(method);
+                }
+            }
+        }
+
+        result.replaceAll((type, methods) -> Collections.unmodifiableList(methods));
+        return result.isEmpty() ? Collections.emptyMap() : result;
+    }
+
+    /**
+     * Read annotated methods of a class from the build-time index (see {@link GeneratedAnnotationIndex}).
+     *
+     * @param clazz  Class to look up.
+     * @param result Map to populate with annotation types that have annotated methods.
+     * @return {@code true} if the index covers all indexed types of <i>clazz</i>, {@code false} if <i>clazz</i> must be
+     * scanned (in which case <i>result</i> is left empty).
+     */
+    private boolean readGeneratedIndex(Class<?> clazz, Map<Class<? extends Annotation>, List<Method>> result) {
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            List<Method> methods = GeneratedAnnotationIndex.findAnnotatedMethods(clazz, annotationType);
+            if (methods == null) {
+                result.clear();
+                return false;
+            }
+            if (!methods.isEmpty()) {
+                result.put(annotationType, methods);
+            }
+        }
+        return true;
+    }
+}
@@ -3,20 +3,39 @@ package gcommon.annotation;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.util.Assert;
 
 /**
  * Helper class that extends the annotation facilities provided by
- * {@link org.springframework.core.annotation.AnnotationUtils}.
+ * {@link org.springframework.core.annotation.AnnotationUtils}.<p>
+ * Results of method scanning are cached per class (via {@link ClassValue}, so cached entries do not keep class
+ * loaders reachable) and per annotation type. Subsequent look-ups for the same class and annotation type do not
+ * re-scan the class. To scan for several annotation types in a single pass, see {@link AnnotationIndex}.<p>
+ * Classes indexed at build time by {@code gcommon.annotation.processor.AnnotatedMethodIndexProcessor} are not scanned
+ * at all; their annotated methods are resolved directly from the generated index.
  *
  * @author Guy Nir
  * @since 19/11/2011
  */
 public class AnnotationUtils {
 
+    /**
+     * Cache of annotated methods, per class and annotation type.
+     */
+    private static final ClassValue<ConcurrentMap<Class<? extends Annotation>, List<Method>>> METHOD_CACHE =
+            new ClassValue<ConcurrentMap<Class<? extends Annotation>, List<Method>>>() {
+                @Override
+                protected ConcurrentMap<Class<? extends Annotation>, List<Method>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(4);
+                }
+            };
+
     /**
      * Locate all methods that are immediately annotated with a given <i>annotationType</i>. The word 'immediate'
      * suggests that only method that are annotated are called. Methods that are annotated by a parent implementation
@@ -31,19 +50,74 @@ public class AnnotationUtils {
      */
     public static Method[] findAnnotatedMethod(Object object, Class<? extends Annotation> annotationType)
             throws IllegalArgumentException {
+        List<Method> methods = getAnnotatedMethods(object, annotationType);
+        return methods.toArray(new Method[methods.size()]);
+    }
+
+    /**
+     * Locate all methods that are immediately annotated with a given <i>annotationType</i> (see
+     * {@link #findAnnotatedMethod(Object, Class)}). Unlike {@link #findAnnotatedMethod(Object, Class)}, the returned
+     * list is shared between callers and involves no copying.
+     *
+     * @param object         Object to inspect methods.
+     * @param annotationType Type of annotation to search on methods.
+     * @return Unmodifiable list of methods immediately annotated with <i>annotationType</i>.
+     * @throws IllegalArgumentException If either <i>object</i> or <i>annotationType</i> are {@code null}.
+     */
+    public static List<Method> getAnnotatedMethods(Object object, Class<? extends Annotation> annotationType)
+            throws IllegalArgumentException {
         Assert.notNull(object, "Object cannot be null.");
         Assert.notNull(annotationType, "Annotation type cannot be null.");
 
         // Uncover and discover the actual bean (without proxies).
-            Class<?> clazz = AopProxyUtils.ultimateTargetClass(object);
+        Class<?> clazz = AopProxyUtils.ultimateTargetClass(object);
+
+        return getAnnotatedMethods(clazz, annotationType);
+    }
+
+    /**
+     * Locate all methods of a given class that are immediately annotated with a given <i>annotationType</i>.
+     *
+     * @param clazz          Class to inspect methods.
+     * @param annotationType Type of annotation to search on methods.
+     * @return Unmodifiable list of methods immediately annotated with <i>annotationType</i>.
+     * @throws IllegalArgumentException If either <i>clazz</i> or <i>annotationType</i> are {@code null}.
+     */
+    public static List<Method> getAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotationType)
+            throws IllegalArgumentException {
+        Assert.notNull(clazz, "Class cannot be null.");
+        Assert.notNull(annotationType, "Annotation type cannot be null.");
+
+        ConcurrentMap<Class<? extends Annotation>, List<Method>> cache = METHOD_CACHE.get(clazz);
+        List<Method> methods = cache.get(annotationType);
+        if (methods == null) {
+            methods = cache.computeIfAbsent(annotationType, type -> scan(clazz, type));
+        }
+
+        return methods;
+    }
+
+    /**
+     * Scan public methods of a class for a given annotation. The build-time index is consulted first (see
+     * {@link GeneratedAnnotationIndex}); classes it does not cover are scanned via reflection.
+     *
+     * @param clazz          Class to scan.
+     * @param annotationType Annotation to look for.
+     * @return Unmodifiable list of annotated methods.
+     */
+    private static List<Method> scan(Class<?> clazz, Class<? extends Annotation> annotationType) {
+        List<Method> indexedMethods = GeneratedAnnotationIndex.findAnnotatedMethods(clazz, annotationType);
+        if (indexedMethods != null) {
+            return indexedMethods;
+        }
 
-        List<Method> annotatedMethods = new LinkedList<>();
+        List<Method> annotatedMethods = new ArrayList<>();
         for (Method method : clazz.getMethods()) {
             if (method.isAnnotationPresent(annotationType)) {
                 annotatedMethods.add(method);
             }
         }
 
-        return annotatedMethods.toArray(new Method[annotatedMethods.size()]);
+        return annotatedMethods.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(annotatedMethods);
     }
 }
@@ -0,0 +1,180 @@
+package gcommon.annotation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reader of annotated-method indices generated at build time by
+ * {@code gcommon.annotation.processor.AnnotatedMethodIndexProcessor} (see {@link #INDEX_RESOURCE} for location and the
+ * processor for the format). All index resources visible to a class loader are merged and loaded once per class
+ * loader.<p>
+ * Look-ups that the index does not cover (class not indexed, annotation type not indexed, or a stale entry that no
+ * longer resolves) yield {@code null}, so the caller falls back to reflection.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class GeneratedAnnotationIndex {
+
+    /**
+     * Location of index resources.
+     */
+    static final String INDEX_RESOURCE = "META-INF/gcommon/annotation.index";
+
+    /**
+     * Empty index, used for class loaders with no index resources.
+     */
+    private static final GeneratedAnnotationIndex EMPTY = new GeneratedAnnotationIndex(Collections.emptyMap());
+
+    /**
+     * Loaded indices, per class loader.
+     */
+    private static final Map<ClassLoader, GeneratedAnnotationIndex> indices = new WeakHashMap<>();
+
+    /**
+     * Indexed classes, by binary class name.
+     */
+    private final Map<String, IndexedClass> classes;
+
+    private GeneratedAnnotationIndex(Map<String, IndexedClass> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * Look up annotated methods of a class in the index of class's loader.
+     *
+     * @param clazz          Class to look up.
+     * @param annotationType Annotation type.
+     * @return Unmodifiable list of methods, or {@code null} if index does not cover <i>clazz</i> and
+     * <i>annotationType</i>.
+     */
+    static List<Method> findAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotationType) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        GeneratedAnnotationIndex index;
+        synchronized (indices) {
+            index = indices.get(classLoader);
+            if (index == null) {
+                index = load(classLoader);
+                indices.put(classLoader, index);
+            }
+        }
+
+        return index.find(clazz, annotationType);
+    }
+
+    /**
+     * Look up annotated methods of a class.
+     *
+     * @param clazz          Class to look up.
+     * @param annotationType Annotation type.
+     * @return Unmodifiable list of methods, or {@code null} if this index does not cover <i>clazz</i> and
+     * <i>annotationType</i>.
+     */
+    private List<Method> find(Class<?> clazz, Class<? extends Annotation> annotationType) {
+        IndexedClass indexedClass = classes.get(clazz.getName());
+        if (indexedClass == null || !indexedClass.annotationTypes.contains(annotationType.getName())) {
+            return null;
+        }
+
+        List<Method> methods = new ArrayList<>();
+        try {
+            for (String[] entry : indexedClass.methods) {
+                if (entry[0].equals(annotationType.getName())) {
+                    Class<?>[] parameterTypes = new Class<?>[entry.length - 2];
+                    for (int index = 0; index < parameterTypes.length; index++) {
+                        parameterTypes[index] = ClassUtils.forName(entry[index + 2], clazz.getClassLoader());
+                    }
+                    methods.add(clazz.getMethod(entry[1], parameterTypes));
+                }
+            }
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            // Stale index entry - let caller fall back to reflection.
+            return null;
+        }
+
+        return methods.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(methods);
+    }
+
+    /**
+     * Load and merge all index resources visible to a class loader.
+     *
+     * @param classLoader Class loader to load resources from.
+     * @return Merged index.
+     */
+    private static GeneratedAnnotationIndex load(ClassLoader classLoader) {
+        Map<String, IndexedClass> classes = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    // Annotation types apply to classes of the resource they are declared in.
+                    Set<String> annotationTypes = new HashSet<>();
+                    IndexedClass current = null;
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        String[] tokens = line.trim().split(" ");
+                        if (tokens[0].equals("annotation") && tokens.length == 2) {
+                            annotationTypes.add(tokens[1]);
+                        } else if (tokens[0].equals("class") && tokens.length == 2) {
+                            current = new IndexedClass(annotationTypes);
+                            classes.put(tokens[1], current);
+                        } else if (tokens[0].equals("method") && tokens.length >= 3 && current != null) {
+                            String[] parameters = tokens.length > 3 ? tokens[3].split(",") : new String[0];
+                            String[] entry = new String[parameters.length + 2];
+                            entry[0] = tokens[1];
+                            entry[1] = tokens[2];
+                            System.arraycopy(parameters, 0, entry, 2, parameters.length);
+                            current.methods.add(entry);
+                        }
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            // Unreadable index - fall back to reflection.
+            return EMPTY;
+        }
+
+        return classes.isEmpty() ? EMPTY : new GeneratedAnnotationIndex(classes);
+    }
+
+    /**
+     * Index entry of a single class.
+     */
+    private static final class IndexedClass {
+
+        /**
+         * Annotation types indexed for this class.
+         */
+        final Set<String> annotationTypes;
+
+        /**
+         * Annotated methods: {annotation type, method name, parameter types...}.
+         */
+        final List<String[]> methods = new ArrayList<>();
+
+        IndexedClass(Set<String> annotationTypes) {
+            this.annotationTypes = annotationTypes;
+        }
+    }
+}
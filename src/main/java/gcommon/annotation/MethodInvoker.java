@@ -0,0 +1,214 @@
+package gcommon.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.util.Assert;
+
+/**
+ * Invokes a method on a pre-bound target object via a {@link MethodHandle}, as a fast replacement of
+ * {@link Method#invoke(Object, Object...)} in dispatch loops. Access checks are performed once, when the invoker is
+ * created, and the handle is adapted to a fixed generic signature so the JIT can inline it like a direct call.<p>
+ * Unbound handles are cached per method, so creating invokers for many targets of the same class is cheap.
+ * Instances are immutable and thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class MethodInvoker {
+
+    /**
+     * Generic signature of all invoker handles.
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    /**
+     * Cache of unbound handles (receiver as first parameter, for instance methods), per declaring class and method.
+     */
+    private static final ClassValue<ConcurrentMap<Method, MethodHandle>> HANDLE_CACHE =
+            new ClassValue<ConcurrentMap<Method, MethodHandle>>() {
+                @Override
+                protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(4);
+                }
+            };
+
+    /**
+     * Invoked method.
+     */
+    private final Method method;
+
+    /**
+     * Bound handle of type {@code (Object[])Object}.
+     */
+    private final MethodHandle handle;
+
+    /**
+     * Class constructor.
+     */
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Create an invoker of a method on a given target.
+     *
+     * @param target Target object to invoke method on. Ignored (may be {@code null}) for static methods.
+     * @param method Method to invoke.
+     * @return A new invoker.
+     * @throws IllegalArgumentException If <i>method</i> is {@code null}, <i>target</i> is {@code null} for an instance
+     *                                  method or not an instance of method's declaring class, or if method is not
+     *                                  accessible.
+     */
+    public static MethodInvoker of(Object target, Method method) throws IllegalArgumentException {
+        Assert.notNull(method, "Method cannot be null.");
+
+        MethodHandle handle = unboundHandle(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            Assert.notNull(target, "Target cannot be null.");
+            Assert.isInstanceOf(method.getDeclaringClass(), target, "Target does not declare method " + method + ".");
+            handle = handle.bindTo(target);
+        }
+
+        handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        return new MethodInvoker(method, handle);
+    }
+
+    /**
+     * Create invokers for all methods of <i>target</i> that are immediately annotated with a given
+     * <i>annotationType</i> (see {@link AnnotationUtils#findAnnotatedMethod(Object, Class)}).
+     *
+     * @param target         Target object.
+     * @param annotationType Type of annotation to search on methods.
+     * @return Unmodifiable list of invokers, bound to <i>target</i>.
+     * @throws IllegalArgumentException If either <i>target</i> or <i>annotationType</i> are {@code null}, or if an
+     *                                  annotated method is not accessible.
+     */
+    public static List<MethodInvoker> forAnnotatedMethods(Object target, Class<? extends Annotation> annotationType)
+            throws IllegalArgumentException {
+        List<Method> methods = AnnotationUtils.getAnnotatedMethods(target, annotationType);
+        if (methods.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<MethodInvoker> invokers = new ArrayList<>(methods.size());
+        for (Method method : methods) {
+            invokers.add(of(target, method));
+        }
+
+        return Collections.unmodifiableList(invokers);
+    }
+
+    /**
+     * @return Invoked method.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invoke the method with given arguments. Primitive parameters are unboxed and primitive results are boxed, as
+     * with {@link Method#invoke(Object, Object...)}.
+     *
+     * @param args Arguments (their number must match the number of method's parameters).
+     * @return Result of invocation ({@code null} for {@code void} methods).
+     * @throws IllegalArgumentException  If number or types of <i>args</i> do not match method's parameters.
+     * @throws InvocationTargetException If the method threw an exception.
+     */
+    public Object invoke(Object... args) throws IllegalArgumentException, InvocationTargetException {
+        if (args == null) {
+            args = new Object[0];
+        }
+        if (args.length != method.getParameterCount()) {
+            throw new IllegalArgumentException("Wrong number of arguments: expected " + method.getParameterCount()
+                    + ", got " + args.length + ".");
+        }
+
+        try {
+            return (Object) handle.invokeExact(args);
+        } catch (ClassCastException | NullPointerException ex) {
+            // Either raised by argument conversion or by the method itself - tell them apart (slow path).
+            if (!argumentsMatch(args)) {
+                throw new IllegalArgumentException("Argument type mismatch invoking " + method + ".", ex);
+            }
+            throw new InvocationTargetException(ex);
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * @param args Arguments to check.
+     * @return {@code true} if each argument can be passed to its respective parameter.
+     */
+    private boolean argumentsMatch(Object[] args) {
+        Class<?>[] types = method.getParameterTypes();
+        for (int index = 0; index < types.length; index++) {
+            Class<?> type = types[index].isPrimitive()
+                    ? MethodType.methodType(types[index]).wrap().returnType()
+                    : types[index];
+            if (args[index] == null ? types[index].isPrimitive() : !type.isInstance(args[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInvoker{" + method + "}";
+    }
+
+    /**
+     * Fetch (or create) an unbound handle of a method.
+     *
+     * @param method Method to create handle for.
+     * @return Unbound handle.
+     * @throws IllegalArgumentException If method is not accessible.
+     */
+    private static MethodHandle unboundHandle(Method method) throws IllegalArgumentException {
+        ConcurrentMap<Method, MethodHandle> cache = HANDLE_CACHE.get(method.getDeclaringClass());
+        MethodHandle handle = cache.get(method);
+        if (handle == null) {
+            handle = cache.computeIfAbsent(method, MethodInvoker::unreflect);
+        }
+        return handle;
+    }
+
+    /**
+     * Create a method handle for a method. Public methods of non-public classes (e.g.: package-private beans) are made
+     * accessible via a private copy of the method, so the caller's {@link Method} instance is left untouched.
+     *
+     * @param method Method to create handle for.
+     * @return Method handle.
+     * @throws IllegalArgumentException If method is not accessible.
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalArgumentException {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException ignore) {
+            // Fall through and retry with access checks suppressed.
+        }
+
+        try {
+            Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+            copy.setAccessible(true);
+            return lookup.unreflect(copy);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // RuntimeException covers SecurityException, and (on Java 9+) InaccessibleObjectException for methods of
+            // modules that are not open to this library.
+            throw new IllegalArgumentException("Method is not accessible: " + method + ".", ex);
+        }
+    }
+}
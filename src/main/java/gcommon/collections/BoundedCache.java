@@ -0,0 +1,650 @@
+package gcommon.collections;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+import org.springframework.util.Assert;
+
+/**
+ * A concurrent cache bounded by total weight, with optional per-entry expiration.<p>
+ * Reads are lock-free: a read is a {@link ConcurrentHashMap} look-up, plus marking the entry as recently used and
+ * updating its (approximate) access frequency. Writes and eviction are serialized by a single lock, so they are
+ * expected to be considerably less frequent than reads.<p>
+ * Eviction is a combination of two policies:
+ * <ul>
+ * <li>CLOCK (second chance) picks a victim: entries are kept in insertion order, and an entry that was read since the
+ * clock hand last passed it is skipped once. This approximates LRU without reordering entries on reads.</li>
+ * <li>TinyLFU admission: access frequencies of keys (including keys not in the cache) are estimated by a small
+ * count-min sketch, periodically halved so it follows recent popularity. When a newly added entry overflows the cache
+ * and its key is less popular than the victim's, the new entry is discarded instead. This prevents one-off accesses
+ * (e.g.: a scan) from flushing popular entries. The sketch is sized by the number of entries (not their weight),
+ * growing with the cache, at 4 to 8 bytes per entry; halving it is done by writers, under the lock.</li>
+ * </ul>
+ * By default each entry weighs 1, so the maximum weight is the maximum number of entries. A {@link #withWeigher
+ * weigher} may assign other weights, e.g.: the length of a marshalled value. Entries heavier than the maximum weight
+ * are never cached.<p>
+ * {@link #get(Object, Function)} loads missing values, running a single load per key at a time: concurrent misses on
+ * the same key wait for that load rather than repeating it. {@code null} values are not cached.<p>
+ * Configuration methods ({@code with...}) should be called before the cache is used. Instances are thread-safe.
+ *
+ * @param <K> Generic type of keys.
+ * @param <V> Generic type of values.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * Maximum total weight of entries.
+     */
+    private final long maximumWeight;
+
+    /**
+     * Entries, by key.
+     */
+    private final ConcurrentMap<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * In-flight loads, by key.
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Clock ring: entries in insertion order (may include removed entries, skipped by the hand).
+     */
+    private final ArrayDeque<Node<K, V>> clock = new ArrayDeque<>();
+
+    /**
+     * Guards {@link #clock}, {@link #totalWeight}, replacement and aging of {@link #sketch} and all modifications of
+     * {@link #entries}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Frequency sketch, replaced by a wider one as the number of entries grows.
+     */
+    private volatile FrequencySketch sketch = new FrequencySketch(FrequencySketch.MIN_WIDTH);
+
+    private long totalWeight;
+
+    private ToIntBiFunction<? super K, ? super V> weigher = (key, value) -> 1;
+
+    /**
+     * Default time-to-live of entries, in nanoseconds, or 0 if entries do not expire by default.
+     */
+    private long defaultTtlNanos;
+
+    /**
+     * Time source, in nanoseconds (replaceable by tests).
+     */
+    LongSupplier ticker = System::nanoTime;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder loadFailures = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Class constructor.
+     *
+     * @param maximumWeight Maximum total weight of entries (the maximum number of entries, unless a weigher is set).
+     * @throws IllegalArgumentException If <i>maximumWeight</i> is not positive.
+     */
+    public BoundedCache(long maximumWeight) throws IllegalArgumentException {
+        Assert.isTrue(maximumWeight > 0, "Maximum weight must be positive.");
+        this.maximumWeight = maximumWeight;
+    }
+
+    /**
+     * Set a weigher, computing the weight of each entry.
+     *
+     * @param weigher Weigher, returning a non-negative weight for an entry.
+     * @return This instance.
+     * @throws IllegalArgumentException If <i>weigher</i> is {@code null}.
+     */
+    public BoundedCache<K, V> withWeigher(ToIntBiFunction<? super K, ? super V> weigher)
+            throws IllegalArgumentException {
+        Assert.notNull(weigher, "Weigher cannot be null.");
+        this.weigher = weigher;
+        return this;
+    }
+
+    /**
+     * Set default time-to-live of entries, measured from when an entry is written.
+     *
+     * @param ttl  Time-to-live. Value of 0 indicates that entries do not expire.
+     * @param unit Unit of <i>ttl</i>.
+     * @return This instance.
+     * @throws IllegalArgumentException If <i>ttl</i> is negative, or <i>unit</i> is {@code null}.
+     */
+    public BoundedCache<K, V> withExpireAfterWrite(long ttl, TimeUnit unit) throws IllegalArgumentException {
+        Assert.isTrue(ttl >= 0, "Time-to-live cannot be negative.");
+        Assert.notNull(unit, "Time unit cannot be null.");
+        this.defaultTtlNanos = unit.toNanos(ttl);
+        return this;
+    }
+
+    /**
+     * Fetch a cached value.
+     *
+     * @param key Key of value.
+     * @return Cached value, or {@code null} if <i>key</i> is not cached (or has expired).
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public V getIfPresent(K key) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        V value = read(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Fetch a cached value, loading (and caching) it if missing. Concurrent calls for the same missing key run
+     * <i>loader</i> once, and all return its outcome. A loader must not access this cache for the same key.
+     *
+     * @param key    Key of value.
+     * @param loader Function loading a missing value. May return {@code null}, in which case nothing is cached.
+     * @return Value, either cached or loaded.
+     * @throws IllegalArgumentException If either <i>key</i> or <i>loader</i> are {@code null}.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) throws IllegalArgumentException {
+        Assert.notNull(loader, "Loader cannot be null.");
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loads.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            // Another thread may have completed a load since our look-up.
+            value = read(key);
+            if (value == null) {
+                loadCount.increment();
+                value = loader.apply(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            loadFailures.increment();
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    /**
+     * Cache a value, with default time-to-live.
+     *
+     * @param key   Key of value.
+     * @param value Value to cache.
+     * @throws IllegalArgumentException If either <i>key</i> or <i>value</i> are {@code null}.
+     */
+    public void put(K key, V value) throws IllegalArgumentException {
+        put(key, value, defaultTtlNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cache a value with a given time-to-live.
+     *
+     * @param key   Key of value.
+     * @param value Value to cache.
+     * @param ttl   Time-to-live, measured from now. Value of 0 indicates that the entry does not expire.
+     * @param unit  Unit of <i>ttl</i>.
+     * @throws IllegalArgumentException If either <i>key</i>, <i>value</i> or <i>unit</i> are {@code null}, <i>ttl</i>
+     *                                  is negative, or weigher returns a negative weight.
+     */
+    public void put(K key, V value, long ttl, TimeUnit unit) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        Assert.notNull(value, "Value cannot be null.");
+        Assert.isTrue(ttl >= 0, "Time-to-live cannot be negative.");
+        Assert.notNull(unit, "Time unit cannot be null.");
+
+        int weight = weigher.applyAsInt(key, value);
+        Assert.isTrue(weight >= 0, "Weight cannot be negative.");
+        long expiresAt = ttl == 0 ? 0 : (ticker.getAsLong() + unit.toNanos(ttl)) | 1;
+        sketch.increment(key.hashCode());
+
+        lock.lock();
+        try {
+            remove(entries.get(key));
+            if (weight > maximumWeight) {
+                return;
+            }
+
+            Node<K, V> node = new Node<>(key, value, weight, expiresAt);
+            entries.put(key, node);
+            clock.addLast(node);
+            totalWeight += weight;
+            maintainSketch();
+            evict(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a cached value.
+     *
+     * @param key Key of value.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public void invalidate(K key) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        lock.lock();
+        try {
+            remove(entries.get(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            for (Node<K, V> node : clock) {
+                node.removed = true;
+            }
+            entries.clear();
+            clock.clear();
+            totalWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of cached entries (including expired entries not yet removed).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Total weight of cached entries.
+     */
+    public long getWeight() {
+        lock.lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Maximum total weight of entries.
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * @return Snapshot of cache statistics.
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), loadCount.sum(), loadFailures.sum(), evictions.sum());
+    }
+
+    /**
+     * @return Width of frequency sketch (exposed for tests).
+     */
+    int getSketchWidth() {
+        return sketch.width();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache{size=" + size() + ", maximumWeight=" + maximumWeight + ", " + getStats() + "}";
+    }
+
+    /**
+     * Look up a value, recording the access. Expired entries are removed.
+     *
+     * @return Value, or {@code null} if missing or expired.
+     */
+    private V read(K key) {
+        sketch.increment(key.hashCode());
+        Node<K, V> node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+
+        if (node.isExpired(ticker.getAsLong())) {
+            lock.lock();
+            try {
+                remove(node);
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        }
+
+        // Avoid writing a shared cache line on every read of a popular entry.
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Widen the sketch if entries outnumber its width (losing its history, which is rebuilt quickly by subsequent
+     * accesses), and age it if due. Must be called with lock held.
+     */
+    private void maintainSketch() {
+        FrequencySketch current = sketch;
+        if (entries.size() > current.width() && current.width() < FrequencySketch.MAX_WIDTH) {
+            sketch = new FrequencySketch(entries.size());
+        } else if (current.isAgingDue()) {
+            current.age();
+        }
+    }
+
+    /**
+     * Evict entries until total weight is within bounds. Must be called with lock held.
+     *
+     * @param candidate Newly added entry, subject to admission.
+     */
+    private void evict(Node<K, V> candidate) {
+        while (totalWeight > maximumWeight) {
+            Node<K, V> victim = nextVictim();
+            if (candidate != null && victim != candidate && !candidate.removed
+                    && !victim.isExpired(ticker.getAsLong())
+                    && sketch.frequency(candidate.key.hashCode()) < sketch.frequency(victim.key.hashCode())) {
+                // Candidate is less popular than victim - reject candidate, and keep victim.
+                clock.addLast(victim);
+                victim = candidate;
+            }
+            candidate = null;
+
+            remove(victim);
+            evictions.increment();
+        }
+
+        // Drop removed entries if they dominate the ring.
+        if (clock.size() > 2 * entries.size() + 16) {
+            clock.removeIf(node -> node.removed);
+        }
+    }
+
+    /**
+     * Advance clock hand to next victim: the first live entry that is either expired or was not read since the hand
+     * last passed it. Must be called with lock held, while the cache is not empty.
+     *
+     * @return Victim, removed from the ring.
+     */
+    private Node<K, V> nextVictim() {
+        long now = ticker.getAsLong();
+        while (true) {
+            Node<K, V> node = clock.pollFirst();
+            if (node.removed) {
+                continue;
+            }
+            if (node.referenced && !node.isExpired(now)) {
+                node.referenced = false;
+                clock.addLast(node);
+                continue;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Remove an entry (if it is still cached). Must be called with lock held.
+     *
+     * @param node Entry to remove (may be {@code null}).
+     */
+    private void remove(Node<K, V> node) {
+        if (node != null && !node.removed) {
+            node.removed = true;
+            entries.remove(node.key, node);
+            totalWeight -= node.weight;
+        }
+    }
+
+    /**
+     * Wait for an in-flight load.
+     */
+    private static <V> V join(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Snapshot of cache statistics.
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long loadCount;
+
+        private final long loadFailureCount;
+
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long loadCount, long loadFailureCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadCount = loadCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return Number of look-ups that found a cached value.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return Number of look-ups that did not find a cached value.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return Ratio of look-ups that found a cached value (1 if there were no look-ups).
+         */
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1 : (double) hitCount / requests;
+        }
+
+        /**
+         * @return Number of values loaded (successfully or not).
+         */
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        /**
+         * @return Number of loads that failed with an exception.
+         */
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * @return Number of entries evicted (or rejected) due to size.
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hits=" + hitCount + ", misses=" + missCount + ", loads=" + loadCount + ", loadFailures="
+                    + loadFailureCount + ", evictions=" + evictionCount + "}";
+        }
+    }
+
+    /**
+     * A cached entry.
+     */
+    private static final class Node<K, V> {
+
+        final K key;
+
+        final V value;
+
+        final int weight;
+
+        /**
+         * Expiration time (odd, so it is never 0), or 0 if the entry does not expire.
+         */
+        final long expiresAt;
+
+        /**
+         * Whether entry was read since clock hand last passed it.
+         */
+        volatile boolean referenced;
+
+        /**
+         * Whether entry was removed (guarded by lock).
+         */
+        boolean removed;
+
+        Node(K key, V value, int weight, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Count-min sketch estimating access frequencies of keys, with 4 rows of 4-bit counters (held in bytes). Once the
+     * number of increments reaches 10 times the sketch width, aging is due: all counters are halved (by the owner, see
+     * {@link #age()}), so estimates reflect recent accesses. Updates are not atomic, and concurrent increments may be
+     * lost - acceptable for an estimate.
+     */
+    private static final class FrequencySketch {
+
+        static final int MIN_WIDTH = 16;
+
+        static final int MAX_WIDTH = 1 << 20;
+
+        private static final int DEPTH = 4;
+
+        private static final int MAX_COUNT = 15;
+
+        private static final int[] SEEDS = {0x97CB3127, 0xB8D29D35, 0x5B5BDC75, 0x8F6D9AE5};
+
+        private final byte[] counters;
+
+        private final int mask;
+
+        private final int sampleSize;
+
+        private int additions;
+
+        /**
+         * @param entries Expected number of distinct keys (width is rounded up to a power of 2, within bounds).
+         */
+        FrequencySketch(int entries) {
+            int width = Integer.highestOneBit(Math.min(Math.max(entries, MIN_WIDTH), MAX_WIDTH) - 1) << 1;
+            this.counters = new byte[DEPTH * width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(int hashCode) {
+            int hash = spread(hashCode);
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = indexOf(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && additions < sampleSize) {
+                additions++;
+            }
+        }
+
+        int width() {
+            return mask + 1;
+        }
+
+        boolean isAgingDue() {
+            return additions >= sampleSize;
+        }
+
+        int frequency(int hashCode) {
+            int hash = spread(hashCode);
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return row * (mask + 1) + ((h ^ (h >>> 16)) & mask);
+        }
+
+        /**
+         * Halve all counters. Must not be called concurrently with itself.
+         */
+        void age() {
+            additions = 0;
+            for (int index = 0; index < counters.length; index++) {
+                counters[index] >>= 1;
+            }
+        }
+
+        private static int spread(int hashCode) {
+            int h = hashCode * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package gcommon.collections;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Strategies for storing the children of a {@link TreeNode}. A node holds its children in an opaque representation
+ * that is created, queried and updated only through its strategy. All strategies allocate nothing for leaf nodes.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public enum ChildStorage {
+
+    /**
+     * Memory-compact, hash-based storage (the default). Up to {@link #INLINE_CAPACITY} children are held in a single
+     * array of interleaved keys and nodes, looked up by linear scan; larger fan-outs are promoted to a
+     * {@link HashMap}. Keys need only implement {@link Object#equals(Object)}/{@link Object#hashCode()}. Iteration
+     * order is unspecified.
+     */
+    COMPACT {
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> N get(Object children, K key) {
+            if (children instanceof Object[]) {
+                Object[] entries = (Object[]) children;
+                for (int index = 0; index < entries.length; index += 2) {
+                    if (key.equals(entries[index])) {
+                        return (N) entries[index + 1];
+                    }
+                }
+                return null;
+            }
+
+            return children == null ? null : ((Map<K, N>) children).get(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> Object put(Object children, K key, N node) {
+            if (children == null) {
+                return new Object[]{key, node};
+            }
+
+            if (children instanceof Object[]) {
+                Object[] entries = (Object[]) children;
+                for (int index = 0; index < entries.length; index += 2) {
+                    if (key.equals(entries[index])) {
+                        entries[index + 1] = node;
+                        return entries;
+                    }
+                }
+
+                if (entries.length < INLINE_CAPACITY * 2) {
+                    entries = Arrays.copyOf(entries, entries.length + 2);
+                    entries[entries.length - 2] = key;
+                    entries[entries.length - 1] = node;
+                    return entries;
+                }
+
+                // Fan-out exceeds inline capacity - promote to hash map.
+                Map<K, N> map = new HashMap<>();
+                for (int index = 0; index < entries.length; index += 2) {
+                    map.put((K) entries[index], (N) entries[index + 1]);
+                }
+                children = map;
+            }
+
+            ((Map<K, N>) children).put(key, node);
+            return children;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> Object remove(Object children, K key) {
+            if (children instanceof Object[]) {
+                Object[] entries = (Object[]) children;
+                for (int index = 0; index < entries.length; index += 2) {
+                    if (key.equals(entries[index])) {
+                        if (entries.length == 2) {
+                            return null;
+                        }
+                        Object[] remaining = new Object[entries.length - 2];
+                        System.arraycopy(entries, 0, remaining, 0, index);
+                        System.arraycopy(entries, index + 2, remaining, index, remaining.length - index);
+                        return remaining;
+                    }
+                }
+            } else if (children != null) {
+                Map<K, N> map = (Map<K, N>) children;
+                map.remove(key);
+                return map.isEmpty() ? null : map;
+            }
+
+            return children;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> void forEach(Object children, BiConsumer<? super K, ? super N> action) {
+            if (children instanceof Object[]) {
+                Object[] entries = (Object[]) children;
+                for (int index = 0; index < entries.length; index += 2) {
+                    action.accept((K) entries[index], (N) entries[index + 1]);
+                }
+            } else if (children != null) {
+                ((Map<K, N>) children).forEach(action);
+            }
+        }
+
+        @Override
+        int size(Object children) {
+            if (children instanceof Object[]) {
+                return ((Object[]) children).length / 2;
+            }
+            return children == null ? 0 : ((Map<?, ?>) children).size();
+        }
+    },
+
+    /**
+     * Sorted storage, based on {@link TreeMap}. Children are iterated in ascending key order. Keys must be
+     * {@link Comparable}. Use only when ordered iteration is required.
+     */
+    SORTED {
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> N get(Object children, K key) {
+            return children == null ? null : ((TreeMap<K, N>) children).get(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> Object put(Object children, K key, N node) {
+            TreeMap<K, N> map = children == null ? new TreeMap<K, N>() : (TreeMap<K, N>) children;
+            map.put(key, node);
+            return map;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> Object remove(Object children, K key) {
+            if (children == null) {
+                return null;
+            }
+            TreeMap<K, N> map = (TreeMap<K, N>) children;
+            map.remove(key);
+            return map.isEmpty() ? null : map;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <K, N> void forEach(Object children, BiConsumer<? super K, ? super N> action) {
+            if (children != null) {
+                ((TreeMap<K, N>) children).forEach(action);
+            }
+        }
+
+        @Override
+        int size(Object children) {
+            return children == null ? 0 : ((TreeMap<?, ?>) children).size();
+        }
+    };
+
+    /**
+     * Maximum number of children held inline by {@link #COMPACT} storage.
+     */
+    public static final int INLINE_CAPACITY = 4;
+
+    /**
+     * Look up a child.
+     *
+     * @param children Children representation (may be {@code null} for no children).
+     * @param key      Key of child. Must not be {@code null}.
+     * @param <K>      Generic type of key.
+     * @param <N>      Generic type of node.
+     * @return Child node, or {@code null} if no such child exists.
+     */
+    abstract <K, N> N get(Object children, K key);
+
+    /**
+     * Add or replace a child.
+     *
+     * @param children Children representation (may be {@code null} for no children).
+     * @param key      Key of child. Must not be {@code null}.
+     * @param node     Child node.
+     * @param <K>      Generic type of key.
+     * @param <N>      Generic type of node.
+     * @return Updated children representation, which the caller should hold from now on.
+     */
+    abstract <K, N> Object put(Object children, K key, N node);
+
+    /**
+     * Remove a child.
+     *
+     * @param children Children representation (may be {@code null} for no children).
+     * @param key      Key of child. Must not be {@code null}.
+     * @param <K>      Generic type of key.
+     * @param <N>      Generic type of node.
+     * @return Updated children representation, which the caller should hold from now on ({@code null} if no children
+     * are left).
+     */
+    abstract <K, N> Object remove(Object children, K key);
+
+    /**
+     * Apply an action on each child.
+     *
+     * @param children Children representation (may be {@code null} for no children).
+     * @param action   Action to apply, with child's key and node.
+     * @param <K>      Generic type of key.
+     * @param <N>      Generic type of node.
+     */
+    abstract <K, N> void forEach(Object children, BiConsumer<? super K, ? super N> action);
+
+    /**
+     * @param children Children representation (may be {@code null} for no children).
+     * @return Number of children.
+     */
+    abstract int size(Object children);
+}
@@ -0,0 +1,61 @@
+package gcommon.collections;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe counterpart of {@link Tree}, designated for hierarchies that are read by many threads and updated by
+ * few (e.g.: a routing or configuration hierarchy refreshed in the background). Reads never lock.<p>
+ * Writers either update individual nodes (see {@link ConcurrentTreeNode}) or publish an entire new tree at once via
+ * {@link #setRoot(ConcurrentTreeNode)}. A reader that resolved a path against the previous root keeps a consistent
+ * view of the previous tree.
+ *
+ * @param <K> Generic type of node's key. Keys must be {@link Comparable}.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ConcurrentTree<K, D> {
+
+    /**
+     * Root node of the tree.
+     */
+    private volatile ConcurrentTreeNode<K, D> rootNode = new ConcurrentTreeNode<>();
+
+    /**
+     * Class constructor.
+     */
+    public ConcurrentTree() {
+    }
+
+    /**
+     * Find a node based on path to it.
+     *
+     * @param path Path to node. Each element of the array represents a key.
+     * @return Matching node or {@code null} if path does not exists.
+     */
+    public ConcurrentTreeNode<K, D> getNode(K[] path) {
+        return rootNode.getNode(path);
+    }
+
+    /**
+     * @return Current root node.
+     */
+    public ConcurrentTreeNode<K, D> getRoot() {
+        return rootNode;
+    }
+
+    /**
+     * Atomically replace the entire tree.
+     *
+     * @param rootNode New root node.
+     * @return Previous root node.
+     * @throws IllegalArgumentException If <i>rootNode</i> is {@code null}.
+     */
+    public synchronized ConcurrentTreeNode<K, D> setRoot(ConcurrentTreeNode<K, D> rootNode)
+            throws IllegalArgumentException {
+        Assert.notNull(rootNode, "Root node cannot be null.");
+        ConcurrentTreeNode<K, D> previous = this.rootNode;
+        this.rootNode = rootNode;
+        return previous;
+    }
+}
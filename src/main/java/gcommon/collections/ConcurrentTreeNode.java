@@ -0,0 +1,204 @@
+package gcommon.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe counterpart of {@link TreeNode}. Reads (data access, child and path look-ups) never lock; children are
+ * held in a {@link ConcurrentSkipListMap} and data in a volatile field. Writers update a single child atomically, or
+ * replace an entire subtree in a single step via {@link #put(Object, ConcurrentTreeNode)}.
+ *
+ * @param <K> Generic type of node's key. Keys must be {@link Comparable}.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ConcurrentTreeNode<K, D> {
+
+    /**
+     * Data associated the current node.
+     */
+    private volatile D data;
+
+    /**
+     * Children of this node. Created upon first child addition, so leaves do not hold an empty map.
+     */
+    private volatile ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> children;
+
+    /**
+     * Class constructor.
+     */
+    public ConcurrentTreeNode() {
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param data Optional data to associate with this node.
+     */
+    public ConcurrentTreeNode(D data) {
+        this.data = data;
+    }
+
+    /**
+     * @return Return associated data. May be {@code null}.
+     */
+    public D getData() {
+        return data;
+    }
+
+    /**
+     * Associate new data with this node.
+     *
+     * @param data New data to associate. May be {@code null}.
+     */
+    public void setData(D data) {
+        this.data = data;
+    }
+
+    /**
+     * Add a new child to this node.
+     *
+     * @param key  Key that identifies the child. If this key already exists, it is overridden (along with its
+     *             subtree).
+     * @param data Data to set for the new node.
+     * @return Newly created node.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public ConcurrentTreeNode<K, D> add(K key, D data) throws IllegalArgumentException {
+        ConcurrentTreeNode<K, D> newNode = new ConcurrentTreeNode<>(data);
+        put(key, newNode);
+        return newNode;
+    }
+
+    /**
+     * Fetch a child node, adding it if it does not exist yet. Concurrent callers are guaranteed to receive the same
+     * node.
+     *
+     * @param key  Key that identifies the child.
+     * @param data Data to set if node is created.
+     * @return Existing or newly created node.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
+     */
+    public ConcurrentTreeNode<K, D> getOrAdd(K key, D data) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        ConcurrentTreeNode<K, D> node = getNode(key);
+        if (node == null) {
+            ConcurrentTreeNode<K, D> newNode = new ConcurrentTreeNode<>(data);
+            node = childrenForUpdate().putIfAbsent(key, newNode);
+            if (node == null) {
+                node = newNode;
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Atomically place a given <i>subtree</i> under a given <i>key</i>, replacing any existing child. Readers observe
+     * either the previous subtree or the new one, never a mix of both. To publish multiple changes at once, build the
+     * subtree detached from the tree and then place it with this method.
+     *
+     * @param key     Key that identifies the child.
+     * @param subtree Subtree to place.
+     * @return Replaced subtree, or {@code null} if there was none.
+     * @throws IllegalArgumentException If either <i>key</i> or <i>subtree</i> are {@code null}.
+     */
+    public ConcurrentTreeNode<K, D> put(K key, ConcurrentTreeNode<K, D> subtree) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        Assert.notNull(subtree, "Subtree cannot be null.");
+        return childrenForUpdate().put(key, subtree);
+    }
+
+    /**
+     * Remove a child (along with its subtree).
+     *
+     * @param key Key of child to remove.
+     * @return Removed node, or {@code null} if no such child exists.
+     */
+    public ConcurrentTreeNode<K, D> remove(K key) {
+        ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> map = this.children;
+        return map != null && key != null ? map.remove(key) : null;
+    }
+
+    /**
+     * Fetch node based on given <i>key</i>.
+     *
+     * @param key Key of node.
+     * @return Node matching given <i>key</i> or {@code null} if no such key exist.
+     */
+    public ConcurrentTreeNode<K, D> getNode(K key) {
+        ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> map = this.children;
+        return map != null && key != null ? map.get(key) : null;
+    }
+
+    /**
+     * Fetch node given a path. Each step reads a single, atomically published reference, so the path is resolved
+     * against subtrees as they were when each step was taken; a subtree replaced concurrently is seen entirely
+     * either before or after the replacement.
+     *
+     * @param path Path (set of keys) to target node.
+     * @return Node matching given <i>path</i> or {@code null} if no such node exists.
+     */
+    public ConcurrentTreeNode<K, D> getNode(K[] path) {
+        ConcurrentTreeNode<K, D> current = null;
+        if (path != null && path.length > 0) {
+            int index = 1;
+            current = getNode(path[0]);
+            while (current != null && index < path.length) {
+                current = current.getNode(path[index]);
+                index++;
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * @return Number of children of this node.
+     */
+    public int getChildrenCount() {
+        ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> map = this.children;
+        return map != null ? map.size() : 0;
+    }
+
+    /**
+     * @return List of children's node data, ordered by key. Will exclude {@code null} values.
+     */
+    public List<D> getChildrenData() {
+        ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> map = this.children;
+        if (map == null) {
+            return Collections.emptyList();
+        }
+
+        List<D> result = new ArrayList<>();
+        for (ConcurrentTreeNode<K, D> child : map.values()) {
+            D childData = child.data;
+            if (childData != null) {
+                result.add(childData);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return Children map, created if required.
+     */
+    private ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> childrenForUpdate() {
+        ConcurrentSkipListMap<K, ConcurrentTreeNode<K, D>> map = this.children;
+        if (map == null) {
+            synchronized (this) {
+                map = this.children;
+                if (map == null) {
+                    this.children = map = new ConcurrentSkipListMap<>();
+                }
+            }
+        }
+
+        return map;
+    }
+}
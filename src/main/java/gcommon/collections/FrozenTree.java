@@ -0,0 +1,285 @@
+package gcommon.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, compact snapshot of a {@link Tree}, designated for trees that are built once and then only read. Instead
+ * of an object per node, the entire tree is held in a handful of flat parallel arrays:
+ * <ul>
+ * <li>Nodes are numbered in breadth-first order, so the children of each node occupy a contiguous index range
+ * ({@code childStart[n]} up to {@code childStart[n + 1]}).</li>
+ * <li>Each node's key and data are held in slot {@code n} of the keys and data arrays.</li>
+ * <li>Each children range has a look-up index ordered by key hash, searched by binary search over contiguous
+ * {@code int} arrays.</li>
+ * </ul>
+ * Instances are thread-safe. Children are iterated in the order of the source tree.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ * @see Tree#freeze()
+ */
+public final class FrozenTree<K, D> {
+
+    /**
+     * Key of each node (root's key is {@code null}).
+     */
+    private final Object[] keys;
+
+    /**
+     * Data of each node.
+     */
+    private final Object[] data;
+
+    /**
+     * Index of first child of each node. Children of node <i>n</i> are {@code [childStart[n], childStart[n + 1])}.
+     */
+    private final int[] childStart;
+
+    /**
+     * Hash codes of keys, sorted within each children range.
+     */
+    private final int[] lookupHashes;
+
+    /**
+     * Node indices, parallel to {@link #lookupHashes}.
+     */
+    private final int[] lookupNodes;
+
+    /**
+     * Class constructor.
+     */
+    private FrozenTree(Object[] keys, Object[] data, int[] childStart, int[] lookupHashes, int[] lookupNodes) {
+        this.keys = keys;
+        this.data = data;
+        this.childStart = childStart;
+        this.lookupHashes = lookupHashes;
+        this.lookupNodes = lookupNodes;
+    }
+
+    /**
+     * Create a frozen snapshot of a given <i>tree</i>.
+     *
+     * @param tree Tree to freeze.
+     * @param <K>  Generic type of node's key.
+     * @param <D>  Generic type of node's data.
+     * @return Frozen snapshot.
+     * @throws IllegalArgumentException If <i>tree</i> is {@code null}.
+     */
+    public static <K, D> FrozenTree<K, D> of(Tree<K, D> tree) throws IllegalArgumentException {
+        Assert.notNull(tree, "Tree cannot be null.");
+
+        // Number nodes in breadth-first order. The list doubles as the BFS queue.
+        List<TreeNode<K, D>> nodes = new ArrayList<>();
+        List<Object> nodeKeys = new ArrayList<>();
+        nodes.add(tree.getRoot());
+        nodeKeys.add(null);
+
+        int[] childStart = new int[16];
+        for (int index = 0; index < nodes.size(); index++) {
+            if (index + 1 >= childStart.length) {
+                childStart = Arrays.copyOf(childStart, childStart.length * 2);
+            }
+            childStart[index] = nodes.size();
+            nodes.get(index).forEachChild((key, child) -> {
+                nodes.add(child);
+                nodeKeys.add(key);
+            });
+        }
+
+        int count = nodes.size();
+        childStart = Arrays.copyOf(childStart, count + 1);
+        childStart[count] = count;
+
+        Object[] keys = nodeKeys.toArray();
+        Object[] data = new Object[count];
+        for (int index = 0; index < count; index++) {
+            data[index] = nodes.get(index).getData();
+        }
+
+        // Build per-range look-up index, ordered by key hash (ties by node index).
+        int[] lookupHashes = new int[count];
+        int[] lookupNodes = new int[count];
+        long[] entries = new long[count];
+        for (int index = 1; index < count; index++) {
+            entries[index] = (long) keys[index].hashCode() << 32 | index;
+        }
+        for (int parent = 0; parent < count; parent++) {
+            Arrays.sort(entries, childStart[parent], childStart[parent + 1]);
+        }
+        for (int index = 1; index < count; index++) {
+            lookupHashes[index] = (int) (entries[index] >> 32);
+            lookupNodes[index] = (int) entries[index];
+        }
+
+        return new FrozenTree<>(keys, data, childStart, lookupHashes, lookupNodes);
+    }
+
+    /**
+     * @return Total number of nodes (including root).
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @return Root node.
+     */
+    public Node<K, D> getRoot() {
+        return new Node<>(this, 0);
+    }
+
+    /**
+     * Find a node based on path to it.
+     *
+     * @param path Path to node. Each element of the array represents a key.
+     * @return Matching node or {@code null} if path does not exists.
+     */
+    public Node<K, D> getNode(K[] path) {
+        if (path == null || path.length == 0) {
+            return null;
+        }
+
+        int index = 0;
+        for (int position = 0; position < path.length && index >= 0; position++) {
+            index = findChild(index, path[position]);
+        }
+
+        return index >= 0 ? new Node<>(this, index) : null;
+    }
+
+    /**
+     * Find a child of a given node.
+     *
+     * @param parent Index of parent node.
+     * @param key    Key of child.
+     * @return Index of child, or -1 if no such child exists.
+     */
+    private int findChild(int parent, Object key) {
+        if (key == null) {
+            return -1;
+        }
+
+        int from = childStart[parent];
+        int to = childStart[parent + 1];
+        int hash = key.hashCode();
+
+        // Binary search for the first entry with a matching hash, then scan entries sharing that hash.
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lookupHashes[middle] < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        for (int position = low; position < to && lookupHashes[position] == hash; position++) {
+            int candidate = lookupNodes[position];
+            if (key.equals(keys[candidate])) {
+                return candidate;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * A light-weight view of a single node within a {@link FrozenTree}. Mirrors the read API of {@link TreeNode}.
+     *
+     * @param <K> Generic type of node's key.
+     * @param <D> Generic type of node's data.
+     */
+    public static final class Node<K, D> {
+
+        /**
+         * Tree this node belongs to.
+         */
+        private final FrozenTree<K, D> tree;
+
+        /**
+         * Index of node within the tree's arrays.
+         */
+        private final int index;
+
+        private Node(FrozenTree<K, D> tree, int index) {
+            this.tree = tree;
+            this.index = index;
+        }
+
+        /**
+         * @return Key of this node, or {@code null} for root.
+         */
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) tree.keys[index];
+        }
+
+        /**
+         * @return Return associated data. May be {@code null}.
+         */
+        @SuppressWarnings("unchecked")
+        public D getData() {
+            return (D) tree.data[index];
+        }
+
+        /**
+         * Fetch node based on given <i>key</i>.
+         *
+         * @param key Key of node.
+         * @return Node matching given <i>key</i> or {@code null} if no such key exist.
+         */
+        public Node<K, D> getNode(K key) {
+            int child = tree.findChild(index, key);
+            return child >= 0 ? new Node<>(tree, child) : null;
+        }
+
+        /**
+         * Fetch node given a path (relative to this node).
+         *
+         * @param path Path (set of keys) to target node.
+         * @return Node matching given <i>path</i> or {@code null} if no such node exists.
+         */
+        public Node<K, D> getNode(K[] path) {
+            if (path == null || path.length == 0) {
+                return null;
+            }
+
+            int current = index;
+            for (int position = 0; position < path.length && current >= 0; position++) {
+                current = tree.findChild(current, path[position]);
+            }
+
+            return current >= 0 ? new Node<>(tree, current) : null;
+        }
+
+        /**
+         * @return Number of children of this node.
+         */
+        public int getChildrenCount() {
+            return tree.childStart[index + 1] - tree.childStart[index];
+        }
+
+        /**
+         * @return List of children's node data. Will exclude {@code null} values.
+         */
+        @SuppressWarnings("unchecked")
+        public List<D> getChildrenData() {
+            int from = tree.childStart[index];
+            int to = tree.childStart[index + 1];
+            List<D> result = new ArrayList<>(to - from);
+            for (int child = from; child < to; child++) {
+                if (tree.data[child] != null) {
+                    result.add((D) tree.data[child]);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package gcommon.collections;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.util.Assert;
+
+/**
+ * Read-only {@link Tree} loaded from a compact binary file via a {@link MappedByteBuffer}. Opening a tree maps the
+ * file and validates its header; nodes are decoded lazily upon access, so no object graph is rebuilt and the file's
+ * pages are shared (via the OS page cache) between all processes mapping it.<p>
+ * A file is created with {@link #write(Tree, Path, TreeCodec, TreeCodec)}. Its layout (all integers are big-endian):
+ * <pre>
+ *     header:  magic (int) | version (int) | node count (int) | reserved (int)
+ *     nodes:   node count x [ key offset | key length | data offset | data length (-1 for null) |
+ *                             first child | child count ]        (6 ints, breadth-first order)
+ *     lookup:  node count x key hash (int), then node count x node index (int), sorted by hash within each
+ *              children range
+ *     blobs:   encoded keys and data
+ * </pre>
+ * Look-ups hash the <i>encoded</i> key and compare encoded bytes, so keys are never decoded during a look-up. Files
+ * are limited to 2GB (a single mapping). Node records are validated against the file's bounds when accessed; a
+ * corrupted record fails with an {@link UncheckedIOException}. Instances are thread-safe.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class MappedTree<K, D> {
+
+    /**
+     * File signature ('GTRE').
+     */
+    private static final int MAGIC = 0x47545245;
+
+    /**
+     * Current format version.
+     */
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+
+    private static final int NODE_RECORD_SIZE = 24;
+
+    /**
+     * Mapped file content.
+     */
+    private final ByteBuffer buffer;
+
+    private final TreeCodec<K> keyCodec;
+
+    private final TreeCodec<D> dataCodec;
+
+    /**
+     * Number of nodes (including root).
+     */
+    private final int nodeCount;
+
+    /**
+     * Offset of look-up hashes (followed by look-up node indices).
+     */
+    private final int lookupOffset;
+
+    private MappedTree(ByteBuffer buffer, TreeCodec<K> keyCodec, TreeCodec<D> dataCodec) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a tree file (invalid signature).");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported tree file version: " + buffer.getInt(4) + ".");
+        }
+
+        this.buffer = buffer;
+        this.keyCodec = keyCodec;
+        this.dataCodec = dataCodec;
+        this.nodeCount = buffer.getInt(8);
+        long lookup = HEADER_SIZE + (long) nodeCount * NODE_RECORD_SIZE;
+        if (nodeCount < 1 || lookup + nodeCount * 8L > buffer.capacity()) {
+            throw new IOException("Corrupted tree file (node count: " + nodeCount + ").");
+        }
+        this.lookupOffset = (int) lookup;
+    }
+
+    /**
+     * Open a tree file.
+     *
+     * @param file      File to open.
+     * @param keyCodec  Codec of keys (must match the one used for writing).
+     * @param dataCodec Codec of data (must match the one used for writing).
+     * @param <K>       Generic type of node's key.
+     * @param <D>       Generic type of node's data.
+     * @return Mapped tree.
+     * @throws IllegalArgumentException If any argument is {@code null}.
+     * @throws IOException              If file could not be mapped or is not a valid tree file.
+     */
+    public static <K, D> MappedTree<K, D> open(Path file, TreeCodec<K> keyCodec, TreeCodec<D> dataCodec)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(file, "File cannot be null.");
+        Assert.notNull(keyCodec, "Key codec cannot be null.");
+        Assert.notNull(dataCodec, "Data codec cannot be null.");
+
+        // The mapping remains valid after the channel is closed.
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedTree<>(mapped, keyCodec, dataCodec);
+        }
+    }
+
+    /**
+     * Write a tree to a file (replacing any existing file). The tree is written to a temporary file in the same
+     * directory, which then atomically replaces the target, so processes that have the target mapped keep reading the
+     * previous version (until they re-open it), and a failed write leaves the target intact.
+     *
+     * @param tree      Tree to write.
+     * @param file      Target file.
+     * @param keyCodec  Codec of keys.
+     * @param dataCodec Codec of data.
+     * @param <K>       Generic type of node's key.
+     * @param <D>       Generic type of node's data.
+     * @throws IllegalArgumentException If any argument is {@code null}, or tree exceeds 2GB when encoded.
+     * @throws IOException              If file could not be written.
+     */
+    public static <K, D> void write(Tree<K, D> tree, Path file, TreeCodec<K> keyCodec, TreeCodec<D> dataCodec)
+            throws IllegalArgumentException, IOException {
+        Assert.notNull(tree, "Tree cannot be null.");
+        Assert.notNull(file, "File cannot be null.");
+        Assert.notNull(keyCodec, "Key codec cannot be null.");
+        Assert.notNull(dataCodec, "Data codec cannot be null.");
+
+        // Number nodes in breadth-first order, encoding keys and data along the way.
+        List<TreeNode<K, D>> nodes = new ArrayList<>();
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> data = new ArrayList<>();
+        List<int[]> childRanges = new ArrayList<>();
+        nodes.add(tree.getRoot());
+        keys.add(new byte[0]);
+        for (int index = 0; index < nodes.size(); index++) {
+            TreeNode<K, D> node = nodes.get(index);
+            data.add(node.getData() != null ? dataCodec.encode(node.getData()) : null);
+            childRanges.add(new int[]{nodes.size(), node.getChildrenCount()});
+            node.forEachChild((key, child) -> {
+                nodes.add(child);
+                keys.add(keyCodec.encode(key));
+            });
+        }
+
+        int count = nodes.size();
+        long blobOffset = HEADER_SIZE + (long) count * (NODE_RECORD_SIZE + 8);
+        long totalSize = blobOffset;
+        for (int index = 0; index < count; index++) {
+            totalSize += keys.get(index).length + (data.get(index) != null ? data.get(index).length : 0);
+        }
+        Assert.isTrue(totalSize <= Integer.MAX_VALUE, "Encoded tree exceeds maximum file size (" + totalSize + ").");
+
+        // Per-range look-up index, ordered by hash of encoded key (ties by node index).
+        long[] entries = new long[count];
+        for (int index = 1; index < count; index++) {
+            entries[index] = (long) Arrays.hashCode(keys.get(index)) << 32 | index;
+        }
+        for (int[] range : childRanges) {
+            Arrays.sort(entries, range[0], range[0] + range[1]);
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = directory.resolve("." + file.getFileName() + "."
+                + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temporary, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                writeContent(stream, count, blobOffset, keys, data, childRanges, entries);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Write encoded tree (see class description for layout).
+     */
+    private static void writeContent(OutputStream stream, int count, long blobOffset, List<byte[]> keys,
+                                     List<byte[]> data, List<int[]> childRanges, long[] entries) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeInt(0);
+
+            long offset = blobOffset;
+            for (int index = 0; index < count; index++) {
+                byte[] key = keys.get(index);
+                byte[] value = data.get(index);
+                out.writeInt((int) offset);
+                out.writeInt(key.length);
+                offset += key.length;
+                out.writeInt((int) offset);
+                out.writeInt(value != null ? value.length : -1);
+                offset += value != null ? value.length : 0;
+                out.writeInt(childRanges.get(index)[0]);
+                out.writeInt(childRanges.get(index)[1]);
+            }
+
+            for (long entry : entries) {
+                out.writeInt((int) (entry >> 32));
+            }
+            for (long entry : entries) {
+                out.writeInt((int) entry);
+            }
+
+            for (int index = 0; index < count; index++) {
+                out.write(keys.get(index));
+                if (data.get(index) != null) {
+                    out.write(data.get(index));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Total number of nodes (including root).
+     */
+    public int size() {
+        return nodeCount;
+    }
+
+    /**
+     * @return Root node.
+     */
+    public Node<K, D> getRoot() {
+        return new Node<>(this, 0);
+    }
+
+    /**
+     * Find a node based on path to it.
+     *
+     * @param path Path to node. Each element of the array represents a key.
+     * @return Matching node or {@code null} if path does not exists.
+     */
+    public Node<K, D> getNode(K[] path) {
+        return getRoot().getNode(path);
+    }
+
+    /**
+     * Find a child of a given node.
+     *
+     * @param parent Index of parent node.
+     * @param key    Key of child.
+     * @return Index of child, or -1 if no such child exists.
+     */
+    private int findChild(int parent, K key) {
+        if (key == null) {
+            return -1;
+        }
+
+        int to = endOfChildren(parent);
+        int from = field(parent, 4);
+        byte[] encoded = keyCodec.encode(key);
+        int hash = Arrays.hashCode(encoded);
+
+        // Binary search for first entry with matching hash, then compare encoded keys sharing that hash.
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (buffer.getInt(lookupOffset + middle * 4) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int nodesOffset = lookupOffset + nodeCount * 4;
+        for (int position = low; position < to && buffer.getInt(lookupOffset + position * 4) == hash; position++) {
+            int candidate = buffer.getInt(nodesOffset + position * 4);
+            if (candidate < 1 || candidate >= nodeCount) {
+                throw corrupted(parent);
+            }
+            if (keyEquals(candidate, encoded)) {
+                return candidate;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return {@code true} if encoded key of node <i>index</i> equals <i>encoded</i>.
+     */
+    private boolean keyEquals(int index, byte[] encoded) {
+        int offset = blobOffset(index, 0);
+        if (field(index, 1) != encoded.length) {
+            return false;
+        }
+        for (int position = 0; position < encoded.length; position++) {
+            if (buffer.get(offset + position) != encoded[position]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Field <i>field</i> (0-5) of node record <i>index</i>.
+     */
+    private int field(int index, int field) {
+        return buffer.getInt(HEADER_SIZE + index * NODE_RECORD_SIZE + field * 4);
+    }
+
+    /**
+     * @return Offset of key (<i>field</i> 0) or data (<i>field</i> 2) of node record <i>index</i>, after validating
+     * it and its length (the following field) against the file's bounds.
+     * @throws UncheckedIOException If record is corrupted.
+     */
+    private int blobOffset(int index, int field) throws UncheckedIOException {
+        int offset = field(index, field);
+        int length = field(index, field + 1);
+        // Data length is -1 for null data.
+        if (offset < 0 || length < (field == 2 ? -1 : 0) || (long) offset + Math.max(length, 0) > buffer.capacity()) {
+            throw corrupted(index);
+        }
+        return offset;
+    }
+
+    /**
+     * @return End (exclusive) of children range of node record <i>index</i>, after validating the range.
+     * @throws UncheckedIOException If record is corrupted.
+     */
+    private int endOfChildren(int index) throws UncheckedIOException {
+        int first = field(index, 4);
+        int count = field(index, 5);
+        if (first < 1 || count < 0 || (long) first + count > nodeCount) {
+            throw corrupted(index);
+        }
+        return first + count;
+    }
+
+    private UncheckedIOException corrupted(int index) {
+        return new UncheckedIOException(new IOException("Corrupted tree file (node " + index + ")."));
+    }
+
+    private K decodeKey(int index) {
+        int offset = blobOffset(index, 0);
+        return keyCodec.decode(buffer, offset, field(index, 1));
+    }
+
+    private D decodeData(int index) {
+        int offset = blobOffset(index, 2);
+        int length = field(index, 3);
+        return length < 0 ? null : dataCodec.decode(buffer, offset, length);
+    }
+
+    /**
+     * A light-weight view of a single node within a {@link MappedTree}. Mirrors the read API of {@link TreeNode};
+     * keys and data are decoded upon each access.
+     *
+     * @param <K> Generic type of node's key.
+     * @param <D> Generic type of node's data.
+     */
+    public static final class Node<K, D> {
+
+        private final MappedTree<K, D> tree;
+
+        private final int index;
+
+        private Node(MappedTree<K, D> tree, int index) {
+            this.tree = tree;
+            this.index = index;
+        }
+
+        /**
+         * @return Key of this node, or {@code null} for root.
+         */
+        public K getKey() {
+            return index == 0 ? null : tree.decodeKey(index);
+        }
+
+        /**
+         * @return Return associated data. May be {@code null}.
+         */
+        public D getData() {
+            return tree.decodeData(index);
+        }
+
+        /**
+         * Fetch node based on given <i>key</i>.
+         *
+         * @param key Key of node.
+         * @return Node matching given <i>key</i> or {@code null} if no such key exist.
+         */
+        public Node<K, D> getNode(K key) {
+            int child = tree.findChild(index, key);
+            return child >= 0 ? new Node<>(tree, child) : null;
+        }
+
+        /**
+         * Fetch node given a path (relative to this node).
+         *
+         * @param path Path (set of keys) to target node.
+         * @return Node matching given <i>path</i> or {@code null} if no such node exists.
+         */
+        public Node<K, D> getNode(K[] path) {
+            if (path == null || path.length == 0) {
+                return null;
+            }
+
+            int current = index;
+            for (int position = 0; position < path.length && current >= 0; position++) {
+                current = tree.findChild(current, path[position]);
+            }
+
+            return current >= 0 ? new Node<>(tree, current) : null;
+        }
+
+        /**
+         * @return Number of children of this node.
+         */
+        public int getChildrenCount() {
+            return tree.endOfChildren(index) - tree.field(index, 4);
+        }
+
+        /**
+         * @return List of children's node data. Will exclude {@code null} values.
+         */
+        public List<D> getChildrenData() {
+            int to = tree.endOfChildren(index);
+            int from = tree.field(index, 4);
+            List<D> result = new ArrayList<>(to - from);
+            for (int child = from; child < to; child++) {
+                D childData = tree.decodeData(child);
+                if (childData != null) {
+                    result.add(childData);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package gcommon.collections;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Array-based double-ended queue of {@code (key, node, depth)} entries, used for non-recursive tree traversal. Entries
+ * are held in parallel arrays, so pushing and polling do not allocate (other than occasional growth).
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class NodeDeque<K, D> implements BiConsumer<K, TreeNode<K, D>> {
+
+    private Object[] keys;
+
+    private Object[] nodes;
+
+    private int[] depths;
+
+    /**
+     * Index of first entry.
+     */
+    private int head;
+
+    /**
+     * Index following the last entry.
+     */
+    private int tail;
+
+    /**
+     * Key, node and depth of the entry most recently polled.
+     */
+    private K polledKey;
+
+    private int polledDepth;
+
+    /**
+     * Depth assigned to children added by {@link #addChildren(TreeNode, int)}.
+     */
+    private int childDepth;
+
+    NodeDeque(int capacity) {
+        keys = new Object[capacity];
+        nodes = new Object[capacity];
+        depths = new int[capacity];
+    }
+
+    int size() {
+        return tail - head;
+    }
+
+    boolean isEmpty() {
+        return tail == head;
+    }
+
+    void addLast(K key, TreeNode<K, D> node, int depth) {
+        if (tail == nodes.length) {
+            grow();
+        }
+        keys[tail] = key;
+        nodes[tail] = node;
+        depths[tail] = depth;
+        tail++;
+    }
+
+    /**
+     * Add all children of a given <i>node</i> to the end of this deque (in the node's iteration order).
+     *
+     * @param node  Node whose children to add.
+     * @param depth Depth to assign to children.
+     */
+    void addChildren(TreeNode<K, D> node, int depth) {
+        childDepth = depth;
+        node.forEachChild(this);
+    }
+
+    /**
+     * Add a child node with depth given to {@link #addChildren(TreeNode, int)}. Implemented so that adding children
+     * does not require a capturing lambda per node.
+     */
+    @Override
+    public void accept(K key, TreeNode<K, D> child) {
+        addLast(key, child, childDepth);
+    }
+
+    TreeNode<K, D> pollLast() {
+        return poll(--tail);
+    }
+
+    TreeNode<K, D> pollFirst() {
+        return poll(head++);
+    }
+
+    /**
+     * @return Key of the most recently polled entry.
+     */
+    K polledKey() {
+        return polledKey;
+    }
+
+    /**
+     * @return Depth of the most recently polled entry.
+     */
+    int polledDepth() {
+        return polledDepth;
+    }
+
+    /**
+     * Reverse order of entries from a given index up to the last entry.
+     *
+     * @param from Index (relative to first entry) to reverse from.
+     */
+    void reverseFrom(int from) {
+        for (int low = head + from, high = tail - 1; low < high; low++, high--) {
+            swap(keys, low, high);
+            swap(nodes, low, high);
+            int depth = depths[low];
+            depths[low] = depths[high];
+            depths[high] = depth;
+        }
+    }
+
+    /**
+     * Move a given number of entries from the front of this deque to a new deque.
+     *
+     * @param count Number of entries to move.
+     * @return A new deque holding moved entries.
+     */
+    NodeDeque<K, D> splitFirst(int count) {
+        NodeDeque<K, D> other = new NodeDeque<>(Math.max(count * 2, 16));
+        System.arraycopy(keys, head, other.keys, 0, count);
+        System.arraycopy(nodes, head, other.nodes, 0, count);
+        System.arraycopy(depths, head, other.depths, 0, count);
+        other.tail = count;
+        Arrays.fill(keys, head, head + count, null);
+        Arrays.fill(nodes, head, head + count, null);
+        head += count;
+        return other;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TreeNode<K, D> poll(int index) {
+        TreeNode<K, D> node = (TreeNode<K, D>) nodes[index];
+        polledKey = (K) keys[index];
+        polledDepth = depths[index];
+        keys[index] = null;
+        nodes[index] = null;
+        if (head == tail) {
+            head = tail = 0;
+        }
+        return node;
+    }
+
+    private void grow() {
+        int size = size();
+        int capacity = size < nodes.length / 2 ? nodes.length : nodes.length * 2;
+        Object[] newKeys = new Object[capacity];
+        Object[] newNodes = new Object[capacity];
+        int[] newDepths = new int[capacity];
+        System.arraycopy(keys, head, newKeys, 0, size);
+        System.arraycopy(nodes, head, newNodes, 0, size);
+        System.arraycopy(depths, head, newDepths, 0, size);
+        keys = newKeys;
+        nodes = newNodes;
+        depths = newDepths;
+        head = 0;
+        tail = size;
+    }
+
+    private static void swap(Object[] array, int first, int second) {
+        Object value = array[first];
+        array[first] = array[second];
+        array[second] = value;
+    }
+}
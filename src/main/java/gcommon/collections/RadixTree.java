@@ -0,0 +1,433 @@
+package gcommon.collections;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.springframework.util.Assert;
+
+/**
+ * Path-compressed (radix) tree, mapping paths of keys (e.g.: URL or topic segments) to data. Chains of single-child
+ * nodes are merged into a single node labeled with the entire run of keys, so deep paths that share long prefixes
+ * take far fewer nodes (and pointer hops) than a {@link Tree} with a node per key.<p>
+ * In addition to exact look-ups, the tree supports longest-prefix matching and iteration over all paths sharing a
+ * prefix. Keys must implement {@link Object#equals(Object)}/{@link Object#hashCode()}; {@code null} keys are not
+ * allowed. This class is not thread-safe.
+ *
+ * @param <K> Generic type of path keys.
+ * @param <D> Generic type of data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class RadixTree<K, D> {
+
+    /**
+     * Root node, with an empty label. Holds data of the empty path.
+     */
+    private final Node root = new Node(new Object[0]);
+
+    /**
+     * Number of paths stored in this tree.
+     */
+    private int size;
+
+    /**
+     * Class constructor.
+     */
+    public RadixTree() {
+    }
+
+    /**
+     * Create a radix tree holding all nodes of a given <i>tree</i> that have non-{@code null} data.
+     *
+     * @param tree Tree to copy.
+     * @param <K>  Generic type of path keys.
+     * @param <D>  Generic type of data.
+     * @return A new radix tree.
+     * @throws IllegalArgumentException If <i>tree</i> is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, D> RadixTree<K, D> from(Tree<K, D> tree) throws IllegalArgumentException {
+        Assert.notNull(tree, "Tree cannot be null.");
+        RadixTree<K, D> radixTree = new RadixTree<>();
+
+        // Depth-first walk with an explicit stack, carrying the path to each node.
+        Deque<Object[]> pending = new ArrayDeque<>();
+        pending.push(new Object[]{tree.getRoot(), new Object[0]});
+        while (!pending.isEmpty()) {
+            Object[] frame = pending.pop();
+            TreeNode<K, D> node = (TreeNode<K, D>) frame[0];
+            Object[] path = (Object[]) frame[1];
+            if (node.getData() != null) {
+                radixTree.put((K[]) path, node.getData());
+            }
+            node.forEachChild((key, child) -> {
+                Object[] childPath = Arrays.copyOf(path, path.length + 1);
+                childPath[path.length] = key;
+                pending.push(new Object[]{child, childPath});
+            });
+        }
+
+        return radixTree;
+    }
+
+    /**
+     * @return Number of paths stored in this tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Associate data with a given <i>path</i>.
+     *
+     * @param path Path of keys. An empty path refers to the root.
+     * @param data Data to associate (may be {@code null}).
+     * @return Data previously associated with <i>path</i>, or {@code null} if there was none.
+     * @throws IllegalArgumentException If <i>path</i> is {@code null} or contains {@code null} keys.
+     */
+    public D put(K[] path, D data) throws IllegalArgumentException {
+        checkPath(path);
+
+        Node node = root;
+        int position = 0;
+        while (position < path.length) {
+            Node child = node.getChild(path[position]);
+            if (child == null) {
+                Node leaf = new Node(Arrays.copyOfRange(path, position, path.length, Object[].class));
+                node.putChild(leaf);
+                node = leaf;
+                break;
+            }
+
+            int common = child.commonPrefix(path, position);
+            if (common < child.label.length) {
+                // Path diverges (or ends) within child's label - split child at the divergence point.
+                Node middle = new Node(Arrays.copyOf(child.label, common));
+                node.putChild(middle);
+                child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+                middle.putChild(child);
+                child = middle;
+            }
+
+            node = child;
+            position += common;
+        }
+
+        D previous = node.data;
+        if (!node.terminal) {
+            node.terminal = true;
+            size++;
+        }
+        node.data = data;
+        return previous;
+    }
+
+    /**
+     * Fetch data associated with a given <i>path</i>.
+     *
+     * @param path Path of keys.
+     * @return Associated data, or {@code null} if <i>path</i> does not exist.
+     */
+    public D get(K[] path) {
+        Node node = find(path);
+        return node != null && node.terminal ? node.data : null;
+    }
+
+    /**
+     * @param path Path of keys.
+     * @return {@code true} if <i>path</i> was put into this tree, {@code false} if not.
+     */
+    public boolean containsPath(K[] path) {
+        Node node = find(path);
+        return node != null && node.terminal;
+    }
+
+    /**
+     * Find data of the longest path stored in this tree that is a prefix of (or equal to) a given <i>path</i>. For
+     * example, given stored paths {@code [api]} and {@code [api, v1]}, looking up {@code [api, v1, users]} yields data
+     * of {@code [api, v1]}.
+     *
+     * @param path Path of keys.
+     * @return Data of longest matching prefix, or {@code null} if no stored path is a prefix of <i>path</i>.
+     */
+    public D longestPrefixMatch(K[] path) {
+        Node match = findLongestPrefix(path);
+        return match != null ? match.data : null;
+    }
+
+    /**
+     * Find length of the longest path stored in this tree that is a prefix of (or equal to) a given <i>path</i>.
+     *
+     * @param path Path of keys.
+     * @return Length of longest matching prefix, or -1 if no stored path is a prefix of <i>path</i>.
+     */
+    public int longestPrefixLength(K[] path) {
+        Node match = findLongestPrefix(path);
+        return match != null ? match.depth : -1;
+    }
+
+    /**
+     * Apply an action on each stored path starting with a given <i>prefix</i> (including <i>prefix</i> itself, if
+     * stored). Order of iteration is unspecified.
+     *
+     * @param prefix Prefix of paths. An empty prefix iterates the entire tree.
+     * @param action Action to apply with an (unmodifiable) path and its data.
+     * @throws IllegalArgumentException If either <i>prefix</i> or <i>action</i> are {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachWithPrefix(K[] prefix, BiConsumer<List<K>, ? super D> action) throws IllegalArgumentException {
+        checkPath(prefix);
+        Assert.notNull(action, "Action cannot be null.");
+
+        // Descend to the first node whose path covers the entire prefix.
+        Node node = root;
+        Object[] path = new Object[0];
+        int position = 0;
+        while (position < prefix.length) {
+            Node child = node.getChild(prefix[position]);
+            if (child == null) {
+                return;
+            }
+            int common = child.commonPrefix(prefix, position);
+            if (common < child.label.length && position + common < prefix.length) {
+                // Diverges within child's label.
+                return;
+            }
+            path = concat(path, child.label);
+            node = child;
+            position += common;
+        }
+
+        // Depth-first walk of the subtree, with an explicit stack.
+        Deque<Object[]> pending = new ArrayDeque<>();
+        pending.push(new Object[]{node, path});
+        while (!pending.isEmpty()) {
+            Object[] frame = pending.pop();
+            Node current = (Node) frame[0];
+            Object[] currentPath = (Object[]) frame[1];
+            if (current.terminal) {
+                action.accept((List<K>) Collections.unmodifiableList(Arrays.asList(currentPath)), current.data);
+            }
+            current.forEachChild(child -> pending.push(new Object[]{child, concat(currentPath, child.label)}));
+        }
+    }
+
+    /**
+     * Remove a given <i>path</i> (but not paths it prefixes).
+     *
+     * @param path Path of keys.
+     * @return Data that was associated with <i>path</i>, or {@code null} if there was none.
+     */
+    public D remove(K[] path) {
+        if (path == null) {
+            return null;
+        }
+
+        // Locate node, tracking its parent and grandparent for restructuring.
+        Node grandParent = null;
+        Node parent = null;
+        Node node = root;
+        int position = 0;
+        while (position < path.length) {
+            Node child = path[position] == null ? null : node.getChild(path[position]);
+            if (child == null || !child.matches(path, position)) {
+                return null;
+            }
+            grandParent = parent;
+            parent = node;
+            node = child;
+            position += child.label.length;
+        }
+
+        if (!node.terminal) {
+            return null;
+        }
+
+        D previous = node.data;
+        node.terminal = false;
+        node.data = null;
+        size--;
+
+        if (parent != null) {
+            int children = node.childrenCount();
+            if (children == 0) {
+                parent.removeChild(node);
+                if (grandParent != null && !parent.terminal && parent.childrenCount() == 1) {
+                    parent.mergeWithOnlyChild();
+                }
+            } else if (children == 1) {
+                node.mergeWithOnlyChild();
+            }
+        }
+
+        return previous;
+    }
+
+    /**
+     * Find node whose path exactly equals a given <i>path</i>.
+     *
+     * @param path Path of keys.
+     * @return Matching node (may be non-terminal) or {@code null} if none.
+     */
+    private Node find(K[] path) {
+        if (path == null) {
+            return null;
+        }
+
+        Node node = root;
+        int position = 0;
+        while (position < path.length) {
+            Node child = path[position] == null ? null : node.getChild(path[position]);
+            if (child == null || !child.matches(path, position)) {
+                return null;
+            }
+            node = child;
+            position += child.label.length;
+        }
+
+        return node;
+    }
+
+    /**
+     * Find the deepest terminal node whose path is a prefix of a given <i>path</i>.
+     *
+     * @param path Path of keys.
+     * @return Matching node, or {@code null} if none.
+     */
+    private Node findLongestPrefix(K[] path) {
+        if (path == null) {
+            return null;
+        }
+
+        Node match = root.terminal ? root : null;
+        Node node = root;
+        int position = 0;
+        while (position < path.length) {
+            Node child = path[position] == null ? null : node.getChild(path[position]);
+            if (child == null || !child.matches(path, position)) {
+                break;
+            }
+            node = child;
+            position += child.label.length;
+            if (node.terminal) {
+                match = node;
+            }
+        }
+
+        return match;
+    }
+
+    /**
+     * @param path Path to validate.
+     * @throws IllegalArgumentException If <i>path</i> is {@code null} or contains {@code null} keys.
+     */
+    private static void checkPath(Object[] path) throws IllegalArgumentException {
+        Assert.notNull(path, "Path cannot be null.");
+        Assert.noNullElements(path, "Path cannot contain null keys.");
+    }
+
+    /**
+     * @return A new array holding elements of <i>first</i> followed by elements of <i>second</i>.
+     */
+    private static Object[] concat(Object[] first, Object[] second) {
+        Object[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * A node of the tree, labeled with a run of one or more keys (the root has an empty label).
+     */
+    private final class Node {
+
+        /**
+         * Run of keys leading from parent to this node.
+         */
+        Object[] label;
+
+        /**
+         * Associated data.
+         */
+        D data;
+
+        /**
+         * {@code true} if a path ends at this node (as opposed to a node that only splits paths).
+         */
+        boolean terminal;
+
+        /**
+         * Number of keys from root to this node.
+         */
+        int depth;
+
+        /**
+         * Children, keyed by first key of their label (see {@link ChildStorage#COMPACT}).
+         */
+        Object children;
+
+        Node(Object[] label) {
+            this.label = label;
+        }
+
+        Node getChild(Object firstKey) {
+            return ChildStorage.COMPACT.get(children, firstKey);
+        }
+
+        void putChild(Node child) {
+            children = ChildStorage.COMPACT.put(children, child.label[0], child);
+            child.depth = depth + child.label.length;
+        }
+
+        void removeChild(Node child) {
+            children = ChildStorage.COMPACT.remove(children, child.label[0]);
+        }
+
+        int childrenCount() {
+            return ChildStorage.COMPACT.size(children);
+        }
+
+        void forEachChild(Consumer<Node> action) {
+            ChildStorage.COMPACT.<Object, Node>forEach(children, (key, child) -> action.accept(child));
+        }
+
+        /**
+         * Merge this node with its only child, so the chain is represented by a single node.
+         */
+        void mergeWithOnlyChild() {
+            List<Node> only = new ArrayList<>(1);
+            forEachChild(only::add);
+            Node child = only.get(0);
+
+            label = concat(label, child.label);
+            data = child.data;
+            terminal = child.terminal;
+            children = child.children;
+            depth = child.depth;
+        }
+
+        /**
+         * @return Number of leading keys of this node's label that equal keys of <i>path</i> starting at
+         * <i>position</i>.
+         */
+        int commonPrefix(Object[] path, int position) {
+            int limit = Math.min(label.length, path.length - position);
+            int common = 0;
+            while (common < limit && label[common].equals(path[position + common])) {
+                common++;
+            }
+            return common;
+        }
+
+        /**
+         * @return {@code true} if this node's entire label matches <i>path</i> starting at <i>position</i>.
+         */
+        boolean matches(Object[] path, int position) {
+            return label.length <= path.length - position && commonPrefix(path, position) == label.length;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package gcommon.collections;
 
+import java.util.stream.Stream;
+
 /**
  * Implementation of tree data structure (parent with multiple children), where each node has an associated data, and
  * each child can be accessed via a unique key within its context.
@@ -12,12 +14,24 @@ public class Tree<K, D> {
     /**
      * Root node of the tree.
      */
-    private final TreeNode<K, D> rootNode = new TreeNode<>();
+    private final TreeNode<K, D> rootNode;
 
     /**
-     * Class constructor.
+     * Class constructor. Creates a tree with {@link ChildStorage#COMPACT compact} child storage.
      */
     public Tree() {
+        this(ChildStorage.COMPACT);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param storage Strategy for storing children of all nodes in this tree (e.g.: {@link ChildStorage#SORTED} when
+     *                children should be iterated by key order).
+     * @throws IllegalArgumentException If <i>storage</i> is {@code null}.
+     */
+    public Tree(ChildStorage storage) throws IllegalArgumentException {
+        this.rootNode = new TreeNode<>(null, storage);
     }
 
     /**
@@ -30,8 +44,51 @@ public class Tree<K, D> {
         return rootNode.getNode(path);
     }
 
+    /**
+     * @return Root node of the tree.
+     */
     public TreeNode<K, D> getRoot() {
         return rootNode;
     }
 
+    /**
+     * @return A stream of all nodes of this tree (including root).
+     * @see TreeNode#stream()
+     */
+    public Stream<TreeNode<K, D>> stream() {
+        return rootNode.stream();
+    }
+
+    /**
+     * Traverse the entire tree in depth-first (pre-order) order.
+     *
+     * @param visitor Visitor to call for each node (starting with root).
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     * @see TreeNode#depthFirst(TreeVisitor)
+     */
+    public void depthFirst(TreeVisitor<K, D> visitor) throws IllegalArgumentException {
+        rootNode.depthFirst(visitor);
+    }
+
+    /**
+     * Traverse the entire tree in breadth-first (level) order.
+     *
+     * @param visitor Visitor to call for each node (starting with root).
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     * @see TreeNode#breadthFirst(TreeVisitor)
+     */
+    public void breadthFirst(TreeVisitor<K, D> visitor) throws IllegalArgumentException {
+        rootNode.breadthFirst(visitor);
+    }
+
+    /**
+     * Create an immutable, compact snapshot of this tree, designated for read-mostly workloads. Later changes to this
+     * tree are not reflected by the snapshot.
+     *
+     * @return Frozen snapshot of this tree.
+     */
+    public FrozenTree<K, D> freeze() {
+        return FrozenTree.of(this);
+    }
+
 }
@@ -0,0 +1,128 @@
+package gcommon.collections;
+
+import gcommon.marshaller.ObjectMarshaller;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.Assert;
+
+/**
+ * Converts keys or data of a tree to/from bytes, for {@link MappedTree} persistence. Encoding of keys must be
+ * deterministic (equal keys encode to equal bytes), since look-ups compare encoded keys.
+ *
+ * @param <T> Generic type of encoded values.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public interface TreeCodec<T> {
+
+    /**
+     * Encode a value.
+     *
+     * @param value Value to encode. Never {@code null}.
+     * @return Encoded bytes.
+     */
+    byte[] encode(T value);
+
+    /**
+     * Decode a value from a range of a buffer. Implementations must use absolute access only, and must not modify the
+     * buffer's position or limit (buffers are shared across threads).
+     *
+     * @param buffer Buffer holding encoded value.
+     * @param offset Offset of encoded value.
+     * @param length Length of encoded value.
+     * @return Decoded value.
+     */
+    T decode(ByteBuffer buffer, int offset, int length);
+
+    /**
+     * @return Codec of strings, in UTF-8.
+     */
+    static TreeCodec<String> strings() {
+        return new TreeCodec<String>() {
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer, int offset, int length) {
+                return new String(TreeCodec.copyOf(buffer, offset, length), StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    /**
+     * @return Codec of integers, as 4 big-endian bytes.
+     */
+    static TreeCodec<Integer> integers() {
+        return new TreeCodec<Integer>() {
+            @Override
+            public byte[] encode(Integer value) {
+                return ByteBuffer.allocate(4).putInt(value).array();
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int offset, int length) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * @return Codec of longs, as 8 big-endian bytes.
+     */
+    static TreeCodec<Long> longs() {
+        return new TreeCodec<Long>() {
+            @Override
+            public byte[] encode(Long value) {
+                return ByteBuffer.allocate(8).putLong(value).array();
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer, int offset, int length) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * Create a codec based on an {@link ObjectMarshaller}.
+     *
+     * @param marshaller Marshaller to encode/decode with.
+     * @param type       Type of values.
+     * @param <T>        Generic type of values.
+     * @return A new codec.
+     * @throws IllegalArgumentException If either <i>marshaller</i> or <i>type</i> are {@code null}.
+     */
+    static <T> TreeCodec<T> marshaller(ObjectMarshaller marshaller, Class<T> type) throws IllegalArgumentException {
+        Assert.notNull(marshaller, "Marshaller cannot be null.");
+        Assert.notNull(type, "Type cannot be null.");
+        return new TreeCodec<T>() {
+            @Override
+            public byte[] encode(T value) {
+                return marshaller.marshal(value);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer, int offset, int length) {
+                return marshaller.unmarshal(TreeCodec.copyOf(buffer, offset, length), type);
+            }
+        };
+    }
+
+    /**
+     * Copy a range of a buffer, using absolute access.
+     *
+     * @param buffer Buffer to copy from.
+     * @param offset Offset of range.
+     * @param length Length of range.
+     * @return Copied bytes.
+     */
+    static byte[] copyOf(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+}
@@ -1,12 +1,16 @@
 package gcommon.collections;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.util.Assert;
 
 /**
  * Represents a single node in the tree. Each such node contains associated data (optional) and children (optional).
+ * Children are held according to the node's {@link ChildStorage} strategy, which is inherited by all nodes added
+ * beneath it.
  *
  * @param <K> Generic type of node's key.
  * @param <D> Generic type of node's data.
@@ -19,14 +23,20 @@ public class TreeNode<K, D> {
     private D data;
 
     /**
-     * Children of this node.
+     * Strategy used for storing children of this node.
      */
-    private final TreeMap<K, TreeNode<K, D>> children = new TreeMap<>();
+    private final ChildStorage storage;
+
+    /**
+     * Children of this node, in a representation managed by {@link #storage}. {@code null} while this node is a leaf.
+     */
+    private Object children;
 
     /**
      * Class constructor.
      */
     public TreeNode() {
+        this(null);
     }
 
     /**
@@ -35,7 +45,20 @@ public class TreeNode<K, D> {
      * @param data Optional data to associate with this node.
      */
     public TreeNode(D data) {
+        this(data, ChildStorage.COMPACT);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param data    Optional data to associate with this node.
+     * @param storage Strategy for storing children of this node (and its descendants).
+     * @throws IllegalArgumentException If <i>storage</i> is {@code null}.
+     */
+    public TreeNode(D data, ChildStorage storage) throws IllegalArgumentException {
+        Assert.notNull(storage, "Storage cannot be null.");
         this.data = data;
+        this.storage = storage;
     }
 
     /**
@@ -54,16 +77,25 @@ public class TreeNode<K, D> {
         this.data = data;
     }
 
+    /**
+     * @return Strategy used for storing children of this node.
+     */
+    public ChildStorage getStorage() {
+        return storage;
+    }
+
     /**
      * Add a new child to this node.
      *
      * @param key  Key that identifies the child. If this key already exists, it is overridden.
      * @param data Data to set for the new node.
      * @return Newly created node.
+     * @throws IllegalArgumentException If <i>key</i> is {@code null}.
      */
-    public TreeNode<K, D> add(K key, D data) {
-        TreeNode<K, D> newNode = new TreeNode<>(data);
-        children.put(key, newNode);
+    public TreeNode<K, D> add(K key, D data) throws IllegalArgumentException {
+        Assert.notNull(key, "Key cannot be null.");
+        TreeNode<K, D> newNode = new TreeNode<>(data, storage);
+        children = storage.put(children, key, newNode);
         return newNode;
     }
 
@@ -74,7 +106,7 @@ public class TreeNode<K, D> {
      * @return Node matching given <i>key</i> or {@code null} if no such key exist.
      */
     public TreeNode<K, D> getNode(K key) {
-        return this.children.get(key);
+        return key == null ? null : storage.get(children, key);
     }
 
     /**
@@ -97,10 +129,97 @@ public class TreeNode<K, D> {
         return current;
     }
 
+    /**
+     * @return Number of children of this node.
+     */
+    public int getChildrenCount() {
+        return storage.size(children);
+    }
+
     /**
      * @return List of children's node data. Will exclude {@code null} values.
      */
     public List<D> getChildrenData() {
-        return this.children.values().stream().map(TreeNode::getData).filter(Objects::nonNull).collect(Collectors.toList());
+        if (children == null) {
+            return new ArrayList<>();
+        }
+
+        List<D> result = new ArrayList<>(storage.size(children));
+        storage.<K, TreeNode<K, D>>forEach(children, (key, child) -> {
+            if (child.data != null) {
+                result.add(child.data);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Traverse the subtree rooted at this node in depth-first (pre-order) order. Traversal is iterative (no
+     * recursion), so arbitrarily deep trees are supported. Children are visited in the order of the node's
+     * {@link ChildStorage}.
+     *
+     * @param visitor Visitor to call for each node (starting with this node).
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     */
+    public void depthFirst(TreeVisitor<K, D> visitor) throws IllegalArgumentException {
+        Assert.notNull(visitor, "Visitor cannot be null.");
+
+        NodeDeque<K, D> pending = new NodeDeque<>(32);
+        pending.addLast(null, this, 0);
+        while (!pending.isEmpty()) {
+            TreeNode<K, D> node = pending.pollLast();
+            int depth = pending.polledDepth();
+            TreeVisitor.Result result = visitor.visit(pending.polledKey(), node, depth);
+            if (result == TreeVisitor.Result.TERMINATE) {
+                return;
+            }
+            if (result != TreeVisitor.Result.SKIP_SUBTREE && node.children != null) {
+                // Push children reversed, so the first child is visited first.
+                int mark = pending.size();
+                pending.addChildren(node, depth + 1);
+                pending.reverseFrom(mark);
+            }
+        }
+    }
+
+    /**
+     * Traverse the subtree rooted at this node in breadth-first (level) order.
+     *
+     * @param visitor Visitor to call for each node (starting with this node).
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     */
+    public void breadthFirst(TreeVisitor<K, D> visitor) throws IllegalArgumentException {
+        Assert.notNull(visitor, "Visitor cannot be null.");
+
+        NodeDeque<K, D> pending = new NodeDeque<>(32);
+        pending.addLast(null, this, 0);
+        while (!pending.isEmpty()) {
+            TreeNode<K, D> node = pending.pollFirst();
+            int depth = pending.polledDepth();
+            TreeVisitor.Result result = visitor.visit(pending.polledKey(), node, depth);
+            if (result == TreeVisitor.Result.TERMINATE) {
+                return;
+            }
+            if (result != TreeVisitor.Result.SKIP_SUBTREE && node.children != null) {
+                pending.addChildren(node, depth + 1);
+            }
+        }
+    }
+
+    /**
+     * @return A stream of all nodes in the subtree rooted at this node (including this node). The stream's
+     * spliterator splits at subtree boundaries, so {@code stream().parallel()} spreads subtrees across threads.
+     */
+    public Stream<TreeNode<K, D>> stream() {
+        return StreamSupport.stream(new TreeSpliterator<>(this), false);
+    }
+
+    /**
+     * Apply an action on each child of this node.
+     *
+     * @param action Action to apply, with child's key and node.
+     */
+    void forEachChild(BiConsumer<? super K, ? super TreeNode<K, D>> action) {
+        storage.forEach(children, action);
     }
 }
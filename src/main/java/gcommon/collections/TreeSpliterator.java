@@ -0,0 +1,99 @@
+package gcommon.collections;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over all nodes of a subtree, in depth-first order. Splitting hands pending subtrees to the new
+ * spliterator, so parallel streams spread whole subtrees across threads.<p>
+ * Subtree sizes are unknown, so (like {@link java.util.Spliterators.AbstractSpliterator}) the size estimate starts
+ * unbounded and halves on each split. Parallel streams therefore stop splitting after a number of splits proportional
+ * to their parallelism, rather than splitting down to single nodes.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class TreeSpliterator<K, D> implements Spliterator<TreeNode<K, D>> {
+
+    /**
+     * Subtrees pending traversal. Root of each is yet to be reported.
+     */
+    private final NodeDeque<K, D> subtrees;
+
+    /**
+     * Nodes already expanded by {@link #trySplit()} (their children were pushed to {@link #subtrees}), pending report.
+     */
+    private final NodeDeque<K, D> expanded = new NodeDeque<>(4);
+
+    /**
+     * Size estimate, halved on each split.
+     */
+    private long estimate;
+
+    /**
+     * Class constructor.
+     *
+     * @param root Root of subtree to traverse.
+     */
+    TreeSpliterator(TreeNode<K, D> root) {
+        this(new NodeDeque<K, D>(16), Long.MAX_VALUE);
+        subtrees.addLast(null, root, 0);
+    }
+
+    private TreeSpliterator(NodeDeque<K, D> subtrees, long estimate) {
+        this.subtrees = subtrees;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TreeNode<K, D>> action) {
+        if (!expanded.isEmpty()) {
+            action.accept(expanded.pollFirst());
+            return true;
+        }
+
+        if (subtrees.isEmpty()) {
+            return false;
+        }
+
+        TreeNode<K, D> node = subtrees.pollLast();
+        int depth = subtrees.polledDepth();
+        int mark = subtrees.size();
+        subtrees.addChildren(node, depth + 1);
+        subtrees.reverseFrom(mark);
+        action.accept(node);
+        return true;
+    }
+
+    @Override
+    public Spliterator<TreeNode<K, D>> trySplit() {
+        // Expand single pending subtrees until there is something to share.
+        while (subtrees.size() == 1) {
+            TreeNode<K, D> node = subtrees.pollLast();
+            int depth = subtrees.polledDepth();
+            expanded.addLast(subtrees.polledKey(), node, depth);
+            subtrees.addChildren(node, depth + 1);
+        }
+
+        int size = subtrees.size();
+        if (size < 2) {
+            return null;
+        }
+
+        // Older subtrees (front of the deque) are shallower and hence typically larger - hand out half of them.
+        estimate >>>= 1;
+        return new TreeSpliterator<>(subtrees.splitFirst(size / 2), estimate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return subtrees.isEmpty() && expanded.isEmpty() ? 0 : estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+}
@@ -0,0 +1,46 @@
+package gcommon.collections;
+
+/**
+ * Callback for {@link TreeNode#depthFirst(TreeVisitor) depth-first} and
+ * {@link TreeNode#breadthFirst(TreeVisitor) breadth-first} tree traversal. The returned {@link Result} controls how
+ * traversal proceeds, allowing to prune subtrees or stop early.
+ *
+ * @param <K> Generic type of node's key.
+ * @param <D> Generic type of node's data.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@FunctionalInterface
+public interface TreeVisitor<K, D> {
+
+    /**
+     * Visit a single node.
+     *
+     * @param key   Key of node within its parent, or {@code null} for the node traversal started from.
+     * @param node  Visited node.
+     * @param depth Depth of node, relative to the node traversal started from (which has depth 0).
+     * @return How to proceed with traversal.
+     */
+    Result visit(K key, TreeNode<K, D> node, int depth);
+
+    /**
+     * Traversal control returned by {@link #visit(Object, TreeNode, int)}.
+     */
+    enum Result {
+
+        /**
+         * Continue traversal, including children of the visited node.
+         */
+        CONTINUE,
+
+        /**
+         * Continue traversal, but skip children (and all descendants) of the visited node.
+         */
+        SKIP_SUBTREE,
+
+        /**
+         * Stop traversal.
+         */
+        TERMINATE
+    }
+}
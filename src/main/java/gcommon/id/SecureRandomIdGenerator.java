@@ -1,5 +1,7 @@
 package gcommon.id;
 
+import gcommon.metrics.Histogram;
+import gcommon.metrics.Metrics;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 
@@ -20,6 +22,11 @@ import java.security.SecureRandom;
  */
 public class SecureRandomIdGenerator implements IdGenerator {
 
+  /**
+   * Time spent obtaining secure random bytes (potentially blocking on entropy), in nanoseconds.
+   */
+  private static final Histogram ENTROPY_NANOS = Metrics.histogram("gcommon.id.entropy.nanos");
+
   /**
    * Secure random that generates the token.
    */
@@ -72,7 +79,11 @@ public class SecureRandomIdGenerator implements IdGenerator {
     // 64 bytes of secure random.
     // 3.5 bytes (28 bits) taken from system time milliseconds.
     //
-    BigInteger buffer = new BigInteger(1, random.generateSeed((tokenSize / 2) - 3));
+    long start = Metrics.startTime();
+    byte[] seed = random.generateSeed((tokenSize / 2) - 3);
+    ENTROPY_NANOS.recordSince(start);
+
+    BigInteger buffer = new BigInteger(1, seed);
     buffer = buffer.shiftLeft(28).add(BigInteger.valueOf(System.currentTimeMillis() & 0x0FFFFFFF));
 
     //
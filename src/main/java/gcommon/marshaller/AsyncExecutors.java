@@ -0,0 +1,47 @@
+package gcommon.marshaller;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Default executor of {@link AsyncObjectMarshaller}: a virtual thread per task when running on Java 21 or later, and
+ * the common fork/join pool otherwise.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class AsyncExecutors {
+
+    /**
+     * Default executor (resolved once).
+     */
+    private static final Executor DEFAULT_EXECUTOR = resolveDefaultExecutor();
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * @return Default executor for asynchronous marshalling.
+     */
+    static Executor defaultExecutor() {
+        return DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * @return {@code true} if default executor runs tasks on virtual threads.
+     */
+    static boolean isVirtual() {
+        return !(DEFAULT_EXECUTOR instanceof ForkJoinPool);
+    }
+
+    private static Executor resolveDefaultExecutor() {
+        // Java 8 baseline: look up virtual threads reflectively.
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factory.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+}
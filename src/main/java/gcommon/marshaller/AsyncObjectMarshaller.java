@@ -0,0 +1,220 @@
+package gcommon.marshaller;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.util.Assert;
+
+/**
+ * Asynchronous front-end of an {@link ObjectMarshaller}, moving the cost of (un)marshalling off the calling thread
+ * (e.g.: an event-loop thread) to an executor. By default, work runs on virtual threads when running on Java 21 or
+ * later, and on the common fork/join pool otherwise.<p>
+ * Streams of objects (or messages) are processed by {@link #marshalAll(Iterator, int, Consumer)} and
+ * {@link #unmarshalAll(Iterator, Class, int, Consumer)} with backpressure: at most a given number of items are in
+ * flight at any time, the source is pulled only when there is room, and results are delivered to a sink in source
+ * order, one at a time (so a slow sink throttles the whole pipeline).<p>
+ * Instances are thread-safe if the underlying marshaller is.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class AsyncObjectMarshaller {
+
+    private final ObjectMarshaller marshaller;
+
+    private final Executor executor;
+
+    /**
+     * Class constructor. Uses the default executor.
+     *
+     * @param marshaller Underlying marshaller.
+     * @throws IllegalArgumentException If <i>marshaller</i> is {@code null}.
+     */
+    public AsyncObjectMarshaller(ObjectMarshaller marshaller) throws IllegalArgumentException {
+        this(marshaller, AsyncExecutors.defaultExecutor());
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param marshaller Underlying marshaller.
+     * @param executor   Executor to (un)marshal on.
+     * @throws IllegalArgumentException If either <i>marshaller</i> or <i>executor</i> are {@code null}.
+     */
+    public AsyncObjectMarshaller(ObjectMarshaller marshaller, Executor executor) throws IllegalArgumentException {
+        Assert.notNull(marshaller, "Marshaller cannot be null.");
+        Assert.notNull(executor, "Executor cannot be null.");
+        this.marshaller = marshaller;
+        this.executor = executor;
+    }
+
+    /**
+     * Marshal an object asynchronously.
+     *
+     * @param object Object to marshal.
+     * @return Future of raw data (completed with {@code null} if <i>object</i> is {@code null}, or exceptionally with
+     * {@link MarshalException} if object could not be serialized).
+     */
+    public CompletableFuture<byte[]> marshal(Object object) {
+        return CompletableFuture.supplyAsync(() -> marshaller.marshal(object), executor);
+    }
+
+    /**
+     * Unmarshal raw data asynchronously. The caller must not modify <i>rawData</i> until the returned future completes.
+     *
+     * @param rawData Raw data to convert.
+     * @param clazz   Class type of unmarshalled object.
+     * @param <T>     Type of object.
+     * @return Future of unmarshalled object (completed with {@code null} if <i>rawData</i> is {@code null}, or
+     * exceptionally with {@link MarshalException} if raw data could not be converted).
+     */
+    public <T> CompletableFuture<T> unmarshal(byte[] rawData, Class<T> clazz) {
+        return CompletableFuture.supplyAsync(() -> marshaller.unmarshal(rawData, clazz), executor);
+    }
+
+    /**
+     * Unmarshal a range of raw data asynchronously. The caller must not modify <i>rawData</i> until the returned future
+     * completes.
+     *
+     * @param rawData Raw data to convert.
+     * @param offset  Offset of data within <i>rawData</i>.
+     * @param length  Length of data.
+     * @param clazz   Class type of unmarshalled object.
+     * @param <T>     Type of object.
+     * @return Future of unmarshalled object.
+     */
+    public <T> CompletableFuture<T> unmarshal(byte[] rawData, int offset, int length, Class<T> clazz) {
+        return CompletableFuture.supplyAsync(() -> marshaller.unmarshal(rawData, offset, length, clazz), executor);
+    }
+
+    /**
+     * Marshal a stream of objects, with at most <i>window</i> objects in flight. Raw data is delivered to <i>sink</i>
+     * in source order. The pipeline stops upon the first failure (of source, marshaller or sink), or when the returned
+     * future is cancelled.
+     *
+     * @param source Source of objects. Accessed by a single thread at a time, though not necessarily the caller's.
+     * @param window Maximum number of objects marshalled (or awaiting delivery) at any time.
+     * @param sink   Consumer of raw data. Called by a single thread at a time.
+     * @return Future completed once all objects were delivered, or exceptionally upon failure.
+     * @throws IllegalArgumentException If either <i>source</i> or <i>sink</i> are {@code null}, or <i>window</i> is
+     *                                  not positive.
+     */
+    public CompletableFuture<Void> marshalAll(Iterator<?> source, int window, Consumer<? super byte[]> sink)
+            throws IllegalArgumentException {
+        return new Pipeline<Object, byte[]>(source, window, sink, this::marshal).start();
+    }
+
+    /**
+     * Unmarshal a stream of messages, with at most <i>window</i> messages in flight. Objects are delivered to
+     * <i>sink</i> in source order. The pipeline stops upon the first failure (of source, marshaller or sink), or when
+     * the returned future is cancelled.
+     *
+     * @param source Source of messages. Accessed by a single thread at a time, though not necessarily the caller's.
+     * @param clazz  Class type of unmarshalled objects.
+     * @param window Maximum number of messages unmarshalled (or awaiting delivery) at any time.
+     * @param sink   Consumer of objects. Called by a single thread at a time.
+     * @param <T>    Type of objects.
+     * @return Future completed once all objects were delivered, or exceptionally upon failure.
+     * @throws IllegalArgumentException If either <i>source</i>, <i>clazz</i> or <i>sink</i> are {@code null}, or
+     *                                  <i>window</i> is not positive.
+     */
+    public <T> CompletableFuture<Void> unmarshalAll(Iterator<byte[]> source, Class<T> clazz, int window,
+                                                    Consumer<? super T> sink) throws IllegalArgumentException {
+        Assert.notNull(clazz, "Class cannot be null.");
+        return new Pipeline<byte[], T>(source, window, sink, rawData -> unmarshal(rawData, clazz)).start();
+    }
+
+    /**
+     * @return Executor (un)marshalling is performed on.
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * An ordered, windowed pipeline. All state is accessed by {@link #drain()}, which runs on one thread at a time:
+     * a thread entering while another is draining only flags that more work is available (and leaves immediately).
+     */
+    private static final class Pipeline<S, R> {
+
+        private final Iterator<? extends S> source;
+
+        private final int window;
+
+        private final Consumer<? super R> sink;
+
+        private final Function<S, CompletableFuture<R>> stage;
+
+        /**
+         * Items in flight, in source order.
+         */
+        private final ArrayDeque<CompletableFuture<R>> pending = new ArrayDeque<>();
+
+        /**
+         * Number of drain requests not yet served (non-zero while a thread is draining).
+         */
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Pipeline(Iterator<? extends S> source, int window, Consumer<? super R> sink,
+                 Function<S, CompletableFuture<R>> stage) throws IllegalArgumentException {
+            Assert.notNull(source, "Source cannot be null.");
+            Assert.isTrue(window > 0, "Window must be positive.");
+            Assert.notNull(sink, "Sink cannot be null.");
+            this.source = source;
+            this.window = window;
+            this.sink = sink;
+            this.stage = stage;
+        }
+
+        CompletableFuture<Void> start() {
+            drain();
+            return result;
+        }
+
+        private void drain() {
+            if (requests.getAndIncrement() != 0) {
+                return;
+            }
+
+            int served = 1;
+            do {
+                try {
+                    step();
+                } catch (Throwable ex) {
+                    result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex);
+                }
+                served = requests.addAndGet(-served);
+            } while (served != 0);
+        }
+
+        /**
+         * Deliver completed items and pull new ones, until blocked on an item in flight.
+         */
+        private void step() {
+            while (!result.isDone()) {
+                CompletableFuture<R> head = pending.peek();
+                if (head != null && head.isDone()) {
+                    pending.poll();
+                    sink.accept(head.join());
+                } else if (pending.size() < window && source.hasNext()) {
+                    CompletableFuture<R> item = stage.apply(source.next());
+                    pending.add(item);
+                    item.whenComplete((value, ex) -> drain());
+                } else {
+                    if (head == null) {
+                        result.complete(null);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
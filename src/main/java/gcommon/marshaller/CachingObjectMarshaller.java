@@ -0,0 +1,304 @@
+package gcommon.marshaller;
+
+import gcommon.collections.BoundedCache;
+import gcommon.objects.ObjectBagAware;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import org.springframework.util.Assert;
+
+/**
+ * A decorator of an {@link ObjectMarshaller} that memoizes its results, so repeatedly marshalling the same objects (or
+ * unmarshalling the same messages) becomes a look-up. Each direction has its own cache, bounded by a budget of bytes:
+ * <ul>
+ * <li>Marshalling: objects implementing {@link ObjectBagAware} are keyed by value (their class and
+ * {@link ObjectBagAware#objectsBag() objects bag}), so equal objects share an entry. Other objects are keyed by
+ * identity, through weak references, so the cache does not keep them reachable; entries of collected objects are
+ * purged. Callers receive a copy of the cached bytes.</li>
+ * <li>Unmarshalling: messages are keyed by target class and content (hash plus a full comparison), so a repeated
+ * message yields the <b>same</b> object instance. This direction is therefore disabled unless given a budget, and is
+ * intended for immutable target types only.</li>
+ * </ul>
+ * Budgets count cached bytes (marshalled data, or message content) only. Each entry adds a fixed overhead on top of
+ * its bytes: its key, its cache node and a few bytes of access-frequency statistics (see {@link BoundedCache}), so
+ * caching many small messages costs noticeably more than their budget.<p>
+ * Marshalled objects must not be modified after they are first marshalled (e.g.: configuration or reference data), as
+ * later calls return the bytes cached for the original state. Instances are thread-safe if the delegate is.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class CachingObjectMarshaller implements ObjectMarshaller {
+
+    private final ObjectMarshaller delegate;
+
+    /**
+     * Marshalled bytes, by object key.
+     */
+    private final BoundedCache<Object, byte[]> marshalled;
+
+    /**
+     * Unmarshalled objects, by message content ({@code null} if disabled).
+     */
+    private final BoundedCache<ContentKey, Object> unmarshalled;
+
+    /**
+     * Queue of identity keys whose objects were collected.
+     */
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Class constructor. Caches marshalled bytes only.
+     *
+     * @param delegate      Marshaller to decorate.
+     * @param marshalBudget Maximum total size of cached marshalled bytes.
+     * @throws IllegalArgumentException If <i>delegate</i> is {@code null}, or <i>marshalBudget</i> is not positive.
+     */
+    public CachingObjectMarshaller(ObjectMarshaller delegate, long marshalBudget) throws IllegalArgumentException {
+        this(delegate, marshalBudget, 0);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param delegate        Marshaller to decorate.
+     * @param marshalBudget   Maximum total size of cached marshalled bytes.
+     * @param unmarshalBudget Maximum total size of messages whose unmarshalled objects are cached, or 0 to disable
+     *                        caching of unmarshalled objects.
+     * @throws IllegalArgumentException If <i>delegate</i> is {@code null}, <i>marshalBudget</i> is not positive or
+     *                                  <i>unmarshalBudget</i> is negative.
+     */
+    public CachingObjectMarshaller(ObjectMarshaller delegate, long marshalBudget, long unmarshalBudget)
+            throws IllegalArgumentException {
+        Assert.notNull(delegate, "Delegate marshaller cannot be null.");
+        Assert.isTrue(unmarshalBudget >= 0, "Unmarshal budget cannot be negative.");
+
+        this.delegate = delegate;
+        this.marshalled = new BoundedCache<Object, byte[]>(marshalBudget)
+                .withWeigher((key, rawData) -> rawData.length);
+        this.unmarshalled = unmarshalBudget == 0 ? null : new BoundedCache<ContentKey, Object>(unmarshalBudget)
+                .withWeigher((key, object) -> key.length);
+    }
+
+    @Override
+    public byte[] marshal(Object object) throws MarshalException {
+        if (object == null) {
+            return delegate.marshal(null);
+        }
+
+        purgeCollected();
+        Object key = object instanceof ObjectBagAware
+                ? new ValueKey(object.getClass(), ((ObjectBagAware) object).objectsBag())
+                : new IdentityLookup(object);
+
+        byte[] rawData = marshalled.getIfPresent(key);
+        if (rawData != null) {
+            return rawData.clone();
+        }
+
+        rawData = delegate.marshal(object);
+        if (rawData != null) {
+            if (key instanceof IdentityLookup) {
+                // Hold object weakly, and purge entry once object is collected.
+                key = new IdentityKey(object, collected);
+            }
+            marshalled.put(key, rawData.clone());
+        }
+        return rawData;
+    }
+
+    @Override
+    public <T> T unmarshal(byte[] rawData, Class<T> clazz) throws MarshalException {
+        return rawData == null ? null : unmarshal(rawData, 0, rawData.length, clazz);
+    }
+
+    @Override
+    public <T> T unmarshal(byte[] rawData, int offset, int length, Class<T> clazz) throws MarshalException {
+        if (rawData == null || unmarshalled == null) {
+            return delegate.unmarshal(rawData, offset, length, clazz);
+        }
+
+        ContentKey key = new ContentKey(clazz, rawData, offset, length);
+        Object object = unmarshalled.getIfPresent(key);
+        if (object == null) {
+            object = delegate.unmarshal(rawData, offset, length, clazz);
+            if (object != null) {
+                // Key must not refer to caller's (mutable) array.
+                unmarshalled.put(new ContentKey(clazz, Arrays.copyOfRange(rawData, offset, offset + length), 0,
+                        length), object);
+            }
+        }
+        return clazz.cast(object);
+    }
+
+    /**
+     * @return Statistics of marshalled bytes cache.
+     */
+    public BoundedCache.Stats getMarshalStats() {
+        return marshalled.getStats();
+    }
+
+    /**
+     * @return Statistics of unmarshalled objects cache, or {@code null} if it is disabled.
+     */
+    public BoundedCache.Stats getUnmarshalStats() {
+        return unmarshalled != null ? unmarshalled.getStats() : null;
+    }
+
+    /**
+     * Discard all cached entries.
+     */
+    public void clear() {
+        marshalled.invalidateAll();
+        if (unmarshalled != null) {
+            unmarshalled.invalidateAll();
+        }
+    }
+
+    /**
+     * Remove entries of collected objects.
+     */
+    private void purgeCollected() {
+        Object key;
+        while ((key = collected.poll()) != null) {
+            marshalled.invalidate(key);
+        }
+    }
+
+    /**
+     * Key of a cached object, by identity. Holds the object weakly.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.hash = System.identityHashCode(object);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            Object object = get();
+            if (other instanceof IdentityLookup) {
+                return object != null && object == ((IdentityLookup) other).object;
+            }
+            return other instanceof IdentityKey && object != null && object == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Key for looking up an object by identity (equal to the {@link IdentityKey} of the same object). Holds the object
+     * strongly, and is therefore never stored.
+     */
+    private static final class IdentityLookup {
+
+        private final Object object;
+
+        IdentityLookup(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey ? other.equals(this)
+                    : other instanceof IdentityLookup && object == ((IdentityLookup) other).object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
+    /**
+     * Key of an object, by value.
+     */
+    private static final class ValueKey {
+
+        private final Class<?> type;
+
+        private final Object state;
+
+        ValueKey(Class<?> type, Object state) {
+            this.type = type;
+            this.state = state;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ValueKey)) {
+                return false;
+            }
+            ValueKey key = (ValueKey) other;
+            return type == key.type && state.equals(key.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + state.hashCode();
+        }
+    }
+
+    /**
+     * Key of a message: target class and a range of raw data.
+     */
+    private static final class ContentKey {
+
+        private final Class<?> type;
+
+        private final byte[] data;
+
+        private final int offset;
+
+        private final int length;
+
+        private final int hash;
+
+        ContentKey(Class<?> type, byte[] data, int offset, int length) {
+            this.type = type;
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+
+            int h = type.hashCode();
+            for (int index = offset; index < offset + length; index++) {
+                h = 31 * h + data[index];
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ContentKey)) {
+                return false;
+            }
+            ContentKey key = (ContentKey) other;
+            if (hash != key.hash || length != key.length || type != key.type) {
+                return false;
+            }
+            for (int index = 0; index < length; index++) {
+                if (data[offset + index] != key.data[key.offset + index]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
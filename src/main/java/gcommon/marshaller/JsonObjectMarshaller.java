@@ -2,6 +2,9 @@ package gcommon.marshaller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import gcommon.metrics.Counter;
+import gcommon.metrics.Histogram;
+import gcommon.metrics.Metrics;
 import java.io.IOException;
 
 /**
@@ -12,6 +15,31 @@ import java.io.IOException;
  */
 public class JsonObjectMarshaller implements ObjectMarshaller {
 
+    /**
+     * Time spent marshalling objects, in nanoseconds.
+     */
+    private static final Histogram MARSHAL_NANOS = Metrics.histogram("gcommon.marshaller.json.marshal.nanos");
+
+    /**
+     * Size of marshalled JSON documents, in bytes.
+     */
+    private static final Histogram MARSHAL_BYTES = Metrics.histogram("gcommon.marshaller.json.marshal.bytes");
+
+    /**
+     * Time spent unmarshalling objects, in nanoseconds.
+     */
+    private static final Histogram UNMARSHAL_NANOS = Metrics.histogram("gcommon.marshaller.json.unmarshal.nanos");
+
+    /**
+     * Size of unmarshalled JSON documents, in bytes.
+     */
+    private static final Histogram UNMARSHAL_BYTES = Metrics.histogram("gcommon.marshaller.json.unmarshal.bytes");
+
+    /**
+     * Number of failed marshal/unmarshal operations.
+     */
+    private static final Counter FAILURES = Metrics.counter("gcommon.marshaller.json.failures");
+
     /**
      * Object marshaller/unmarshaller.
      */
@@ -36,9 +64,18 @@ public class JsonObjectMarshaller implements ObjectMarshaller {
 
     @Override
     public byte[] marshal(Object object) throws MarshalException {
+        if (object == null) {
+            return null;
+        }
+
         try {
-            return object == null ? null : this.objectMapper.writer().writeValueAsBytes(object);
+            long start = Metrics.startTime();
+            byte[] rawData = this.objectMapper.writer().writeValueAsBytes(object);
+            MARSHAL_NANOS.recordSince(start);
+            MARSHAL_BYTES.record(rawData.length);
+            return rawData;
         } catch (JsonProcessingException ex) {
+            FAILURES.increment();
             throw new MarshalException("Failed to serialize (marshal) object of type '" + object.getClass().getName() + "'.", ex);
         }
     }
@@ -49,9 +86,23 @@ public class JsonObjectMarshaller implements ObjectMarshaller {
             return null;
         }
 
+        return unmarshal(rawData, 0, rawData.length, clazz);
+    }
+
+    @Override
+    public <T> T unmarshal(byte[] rawData, int offset, int length, Class<T> clazz) throws MarshalException {
+        if (rawData == null) {
+            return null;
+        }
+
         try {
-            return this.objectMapper.reader().forType(clazz).readValue(rawData);
+            long start = Metrics.startTime();
+            T object = this.objectMapper.reader().forType(clazz).readValue(rawData, offset, length);
+            UNMARSHAL_NANOS.recordSince(start);
+            UNMARSHAL_BYTES.record(length);
+            return object;
         } catch (IOException ex) {
+            FAILURES.increment();
             throw new MarshalException("Failed to deserialize (unmarshal) object from raw data.", ex);
         }
     }
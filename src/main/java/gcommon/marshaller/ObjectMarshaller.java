@@ -1,5 +1,7 @@
 package gcommon.marshaller;
 
+import java.util.Arrays;
+
 /**
  * Definition of marshaller/unmarshaller.
  *
@@ -27,4 +29,25 @@ public interface ObjectMarshaller {
      * @throws MarshalException If raw data could not be converted to Java object.
      */
     <T> T unmarshal(byte[] rawData, Class<T> clazz) throws MarshalException;
+
+    /**
+     * Unmarshal a range of raw data into a Java object. The default implementation copies the range; implementations
+     * are encouraged to parse it in place.
+     *
+     * @param rawData Raw data to convert.
+     * @param offset  Offset of data within <i>rawData</i>.
+     * @param length  Length of data.
+     * @param clazz   Class type of unmarshalled object.
+     * @param <T>     Type of object.
+     * @return Unmarshalled object, or {@code null} if <i>rawData</i> is {@code null}.
+     * @throws MarshalException If raw data could not be converted to Java object.
+     */
+    default <T> T unmarshal(byte[] rawData, int offset, int length, Class<T> clazz) throws MarshalException {
+        if (rawData == null) {
+            return null;
+        }
+        return unmarshal(offset == 0 && length == rawData.length
+                ? rawData
+                : Arrays.copyOfRange(rawData, offset, offset + length), clazz);
+    }
 }
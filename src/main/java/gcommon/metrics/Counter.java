@@ -0,0 +1,54 @@
+package gcommon.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count of events. Updates are striped (via {@link LongAdder}), so counting from many
+ * threads does not contend, and are ignored while instrumentation is {@link Metrics#isEnabled() disabled}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class Counter {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Count a single event.
+     */
+    public void increment() {
+        if (Metrics.enabled) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Count a number of events.
+     *
+     * @param events Number of events.
+     */
+    public void add(long events) {
+        if (Metrics.enabled) {
+            count.add(events);
+        }
+    }
+
+    /**
+     * @return Number of events counted so far.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Clear counter.
+     */
+    public void reset() {
+        count.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Counter{count=" + getCount() + "}";
+    }
+}
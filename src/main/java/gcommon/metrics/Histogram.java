@@ -0,0 +1,221 @@
+package gcommon.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.Assert;
+
+/**
+ * A distribution of non-negative values, such as latencies (in nanoseconds) or payload sizes (in bytes).<p>
+ * Values are counted in log-linear buckets (as in HDR histograms): each power-of-2 range is split into 8 equal
+ * sub-buckets, so any value is represented within 12.5% of its actual value, using a fixed set of 488 buckets that
+ * covers the entire {@code long} range. Each bucket is a {@link LongAdder}, so recording from many threads does not
+ * contend, and never allocates. Recording is ignored while instrumentation is {@link Metrics#isEnabled() disabled}.
+ * Negative values are recorded as 0.<p>
+ * Readings are not atomic with respect to concurrent recording (e.g.: count may include a value not yet reflected in
+ * sum), which is acceptable for monitoring.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class Histogram {
+
+    /**
+     * Binary logarithm of number of sub-buckets per power of 2.
+     */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /**
+     * Number of sub-buckets per power of 2.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Total number of buckets: values below {@link #SUB_BUCKETS} have a bucket each, followed by {@link #SUB_BUCKETS}
+     * buckets for each power of 2 up to 2^62.
+     */
+    static final int BUCKET_COUNT = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sum = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Class constructor.
+     */
+    public Histogram() {
+        for (int index = 0; index < buckets.length; index++) {
+            buckets[index] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a value.
+     *
+     * @param value Value to record.
+     */
+    public void record(long value) {
+        if (Metrics.enabled) {
+            value = Math.max(value, 0);
+            buckets[bucketOf(value)].increment();
+            count.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+    }
+
+    /**
+     * Record time elapsed since a given start time.
+     *
+     * @param startTime Start time, as returned by {@link Metrics#startTime()}. Value of 0 (instrumentation was disabled
+     *                  when operation started) is ignored.
+     */
+    public void recordSince(long startTime) {
+        if (startTime != 0) {
+            record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * @return Number of values recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Sum of values recorded.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return Largest value recorded, or 0 if no value was recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return Mean of values recorded, or 0 if no value was recorded.
+     */
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * Estimate the value at a given percentile, e.g.: {@code getPercentile(99)} returns a value that is greater than or
+     * equal to 99% of the values recorded. The estimate is the upper bound of the bucket holding the percentile, capped
+     * by the largest value recorded.
+     *
+     * @param percentile Percentile, between 0 and 100 (inclusive).
+     * @return Value at percentile, or 0 if no value was recorded.
+     * @throws IllegalArgumentException If <i>percentile</i> is out of range.
+     */
+    public long getPercentile(double percentile) throws IllegalArgumentException {
+        Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100.");
+
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            counts[index] = buckets[index].sum();
+            total += counts[index];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        int index = 0;
+        while (index < BUCKET_COUNT - 1 && (seen += counts[index]) < rank) {
+            index++;
+        }
+        return Math.min(upperBoundOf(index), getMax());
+    }
+
+    /**
+     * Visit all non-empty buckets, in ascending order. Intended for adapters exporting the full distribution to a
+     * metrics backend.
+     *
+     * @param visitor Visitor to call for each non-empty bucket.
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     */
+    public void forEachBucket(BucketVisitor visitor) throws IllegalArgumentException {
+        Assert.notNull(visitor, "Visitor cannot be null.");
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            long bucketCount = buckets[index].sum();
+            if (bucketCount > 0) {
+                visitor.visit(lowerBoundOf(index), upperBoundOf(index), bucketCount);
+            }
+        }
+    }
+
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Histogram{count=" + getCount() + ", mean=" + getMean() + ", p50=" + getPercentile(50) + ", p99="
+                + getPercentile(99) + ", max=" + getMax() + "}";
+    }
+
+    /**
+     * @return Index of bucket holding a non-negative <i>value</i>.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return Smallest value held by bucket at <i>index</i>.
+     */
+    static long lowerBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << shift;
+    }
+
+    /**
+     * @return Largest value held by bucket at <i>index</i>.
+     */
+    static long upperBoundOf(int index) {
+        return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowerBoundOf(index + 1) - 1;
+    }
+
+    /**
+     * Visitor of histogram buckets.
+     */
+    @FunctionalInterface
+    public interface BucketVisitor {
+
+        /**
+         * Visit a bucket.
+         *
+         * @param lowerBound Smallest value held by bucket (inclusive).
+         * @param upperBound Largest value held by bucket (inclusive).
+         * @param count      Number of values recorded in bucket.
+         */
+        void visit(long lowerBound, long upperBound, long count);
+    }
+}
@@ -0,0 +1,92 @@
+package gcommon.metrics;
+
+/**
+ * Entry point of gcommon's instrumentation. Library components register their metrics with a process-wide
+ * {@link #registry() registry}, from which adapters export them to a metrics backend (see {@link MetricsVisitor}).<p>
+ * Instrumentation is disabled by default, and is enabled either by setting system property
+ * {@code gcommon.metrics.enabled} to {@code true} or by calling {@link #setEnabled(boolean)}. While disabled, recording
+ * a metric amounts to reading a single flag: no clock is read and no counter is updated.<p>
+ * Timings are recorded as follows:
+ * <pre>
+ *     long start = Metrics.startTime();
+ *     ... timed operation ...
+ *     LATENCY.recordSince(start);
+ * </pre>
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public final class Metrics {
+
+    /**
+     * Name of system property that enables instrumentation.
+     */
+    public static final String ENABLED_PROPERTY = "gcommon.metrics.enabled";
+
+    /**
+     * Whether recording is enabled.
+     */
+    static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Process-wide registry.
+     */
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    private Metrics() {
+    }
+
+    /**
+     * @return {@code true} if metrics are recorded.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable recording of all metrics. Values recorded so far are retained.
+     *
+     * @param enabled {@code true} to record metrics, {@code false} to stop recording.
+     */
+    public static void setEnabled(boolean enabled) {
+        Metrics.enabled = enabled;
+    }
+
+    /**
+     * @return Process-wide registry, holding the metrics of all library components.
+     */
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Get (or create) a counter in the process-wide registry.
+     *
+     * @param name Name of counter.
+     * @return Counter.
+     * @throws IllegalArgumentException If <i>name</i> is {@code null}, or is already registered as a histogram.
+     */
+    public static Counter counter(String name) throws IllegalArgumentException {
+        return REGISTRY.counter(name);
+    }
+
+    /**
+     * Get (or create) a histogram in the process-wide registry.
+     *
+     * @param name Name of histogram.
+     * @return Histogram.
+     * @throws IllegalArgumentException If <i>name</i> is {@code null}, or is already registered as a counter.
+     */
+    public static Histogram histogram(String name) throws IllegalArgumentException {
+        return REGISTRY.histogram(name);
+    }
+
+    /**
+     * Start timing an operation, to be completed with {@link Histogram#recordSince(long)}.
+     *
+     * @return Current value of {@link System#nanoTime()}, or 0 if instrumentation is disabled.
+     */
+    public static long startTime() {
+        return enabled ? System.nanoTime() : 0;
+    }
+}
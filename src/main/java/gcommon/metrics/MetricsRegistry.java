@@ -0,0 +1,82 @@
+package gcommon.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.springframework.util.Assert;
+
+/**
+ * A named set of metrics. Metrics are created upon first request and are never removed, so components may look up
+ * their metrics once (e.g.: into static fields) and record into them without further look-ups. Instances are
+ * thread-safe.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class MetricsRegistry {
+
+    /**
+     * Metrics by name.
+     */
+    private final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Get (or create) a counter.
+     *
+     * @param name Name of counter.
+     * @return Counter.
+     * @throws IllegalArgumentException If <i>name</i> is {@code null}, or is already registered as a histogram.
+     */
+    public Counter counter(String name) throws IllegalArgumentException {
+        return get(name, Counter.class, key -> new Counter());
+    }
+
+    /**
+     * Get (or create) a histogram.
+     *
+     * @param name Name of histogram.
+     * @return Histogram.
+     * @throws IllegalArgumentException If <i>name</i> is {@code null}, or is already registered as a counter.
+     */
+    public Histogram histogram(String name) throws IllegalArgumentException {
+        return get(name, Histogram.class, key -> new Histogram());
+    }
+
+    /**
+     * Visit all metrics.
+     *
+     * @param visitor Visitor to call for each metric.
+     * @throws IllegalArgumentException If <i>visitor</i> is {@code null}.
+     */
+    public void visit(MetricsVisitor visitor) throws IllegalArgumentException {
+        Assert.notNull(visitor, "Visitor cannot be null.");
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            if (entry.getValue() instanceof Counter) {
+                visitor.visitCounter(entry.getKey(), (Counter) entry.getValue());
+            } else {
+                visitor.visitHistogram(entry.getKey(), (Histogram) entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Clear values of all metrics (metrics remain registered).
+     */
+    public void reset() {
+        for (Object metric : metrics.values()) {
+            if (metric instanceof Counter) {
+                ((Counter) metric).reset();
+            } else {
+                ((Histogram) metric).reset();
+            }
+        }
+    }
+
+    private <T> T get(String name, Class<T> type, Function<String, T> factory) throws IllegalArgumentException {
+        Assert.notNull(name, "Name cannot be null.");
+        Object metric = metrics.computeIfAbsent(name, factory);
+        Assert.isInstanceOf(type, metric, "Metric '" + name + "' is already registered with another type.");
+        return type.cast(metric);
+    }
+}
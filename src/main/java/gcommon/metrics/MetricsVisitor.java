@@ -0,0 +1,28 @@
+package gcommon.metrics;
+
+/**
+ * Visitor of metrics held by a {@link MetricsRegistry}. This is the extension point for exporting metrics to a
+ * monitoring backend: an adapter typically visits the registry periodically (or upon scrape) and publishes each counter
+ * and histogram under its name, e.g.: as a function counter and a distribution summary, respectively.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public interface MetricsVisitor {
+
+    /**
+     * Visit a counter.
+     *
+     * @param name    Name of counter.
+     * @param counter Counter.
+     */
+    void visitCounter(String name, Counter counter);
+
+    /**
+     * Visit a histogram.
+     *
+     * @param name      Name of histogram.
+     * @param histogram Histogram.
+     */
+    void visitHistogram(String name, Histogram histogram);
+}
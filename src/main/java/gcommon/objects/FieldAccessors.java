@@ -0,0 +1,38 @@
+package gcommon.objects;
+
+import java.lang.reflect.Field;
+
+/**
+ * Per-class cache of declared fields, made accessible, for reflective access by {@link ObjectPrinter} (and hence by
+ * {@link ObjectBase#toString()}). Looking fields up and opening them up once per class (rather than on every call)
+ * spares repeated copying of reflection data and access checks. Java 11 and later use a variant (see
+ * {@code src/main/java11}) that respects strong encapsulation of JDK modules.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class FieldAccessors {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            Field[] fields = type.getDeclaredFields();
+            for (Field field : fields) {
+                // Allow access to a private field.
+                field.setAccessible(true);
+            }
+            return fields;
+        }
+    };
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * @param type Class to look up.
+     * @return Fields declared by <i>type</i>, accessible. The returned array is shared and must not be modified.
+     */
+    static Field[] declaredFields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+}
@@ -1,17 +1,32 @@
 package gcommon.objects;
 
 import gcommon.SizeUnits;
+import gcommon.pool.ObjectPool;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Format a numeric value to convenient human readable format.
+ * Format a numeric value to convenient human readable format.<p>
+ * {@code DecimalFormat}s are not thread-safe and are costly to create, so they are pooled per pattern and shared by
+ * all instances; once configured, an instance may be used to format values from multiple threads.
  *
  * @author Guy Raz Nir
  * @since 25/06/2016
  */
 public class NumberFormatter {
 
+    /**
+     * Size units, in ascending order.
+     */
+    private static final SizeUnits[] UNITS = SizeUnits.values();
+
+    /**
+     * Pools of decimal formats, by pattern.
+     */
+    private static final ConcurrentMap<String, ObjectPool<DecimalFormat>> FORMAT_POOLS = new ConcurrentHashMap<>();
+
     /**
      * Maximum number of digits to allow. When formatting a number that overflow beyond this limit, the value is
      * automatically divided by 1K and an upper level units are assigned.
@@ -35,12 +50,12 @@ public class NumberFormatter {
     private int kilo = 1024;
 
     /**
-     * Formatter.
+     * Pool of formatters matching this instance's configuration.
      */
-    private DecimalFormat formatter;
+    private ObjectPool<DecimalFormat> formatters;
 
     public NumberFormatter() {
-        formatter = newDecimalFormat();
+        formatters = formatterPool();
     }
 
     /**
@@ -55,7 +70,7 @@ public class NumberFormatter {
      */
     public NumberFormatter withMaxDigits(int maxDigits) {
         this.maxDigits = maxDigits;
-        this.formatter = newDecimalFormat();
+        this.formatters = formatterPool();
         return this;
     }
 
@@ -71,7 +86,7 @@ public class NumberFormatter {
      */
     public NumberFormatter withMaxDecimalDigits(int maxDecimalDigits) {
         this.maxDecimalDigits = maxDecimalDigits;
-        this.formatter = newDecimalFormat();
+        this.formatters = formatterPool();
         return this;
     }
 
@@ -83,7 +98,7 @@ public class NumberFormatter {
      */
     public NumberFormatter withDecimalPadding() {
         this.decimalPadding = true;
-        this.formatter = newDecimalFormat();
+        this.formatters = formatterPool();
         return this;
     }
 
@@ -95,7 +110,7 @@ public class NumberFormatter {
      */
     public NumberFormatter withoutDecimalPadding() {
         this.decimalPadding = false;
-        this.formatter = newDecimalFormat();
+        this.formatters = formatterPool();
         return this;
     }
 
@@ -127,7 +142,28 @@ public class NumberFormatter {
      * @return Formatted value.
      */
     public String format(long value) {
-        return format(BigDecimal.valueOf(value));
+        if (maxDigits <= 1) {
+            return render(value, "");
+        }
+
+        // Fast path: scale value to a fixed-point long (maxDecimalDigits decimal places) and divide with long
+        // arithmetic, which truncates exactly like BigDecimal's ROUND_DOWN. Falls back on overflow.
+        long scale = pow10(maxDecimalDigits);
+        long reference = scale > 0 ? pow10(maxDigits) : -1;
+        if (reference < 0 || reference > Long.MAX_VALUE / scale || value > Long.MAX_VALUE / scale
+                || value < Long.MIN_VALUE / scale) {
+            return format(BigDecimal.valueOf(value));
+        }
+
+        long scaled = value * scale;
+        reference *= scale;
+        int unitsIndex = 0;
+        while (unitsIndex < UNITS.length - 1 && scaled >= reference) {
+            scaled /= kilo;
+            unitsIndex++;
+        }
+
+        return render(BigDecimal.valueOf(scaled, maxDecimalDigits), UNITS[unitsIndex].symbol);
     }
 
     /**
@@ -142,20 +178,51 @@ public class NumberFormatter {
             value = value.setScale(maxDecimalDigits, BigDecimal.ROUND_DOWN);
             BigDecimal referenceValue = BigDecimal.TEN.pow(maxDigits);
             BigDecimal divider = BigDecimal.valueOf(kilo);
-            while (unitsIndex < SizeUnits.values().length && value.compareTo(referenceValue) >= 0) {
+            while (unitsIndex < UNITS.length - 1 && value.compareTo(referenceValue) >= 0) {
                 value = value.divide(divider, BigDecimal.ROUND_DOWN);
                 unitsIndex++;
             }
 
         }
 
-        return formatter.format(value) + SizeUnits.values()[unitsIndex].symbol;
+        return render(value, UNITS[unitsIndex].symbol);
+    }
+
+    /**
+     * Format a value with a pooled formatter.
+     *
+     * @param value  Value to format (a {@code long} or a {@code BigDecimal}).
+     * @param symbol Symbol to append.
+     * @return Formatted value.
+     */
+    private String render(Object value, String symbol) {
+        DecimalFormat formatter = formatters.acquire();
+        try {
+            return formatter.format(value) + symbol;
+        } finally {
+            formatters.release(formatter);
+        }
+    }
+
+    /**
+     * @return 10 raised to the power of <i>exponent</i>, or -1 if it overflows a {@code long} (or <i>exponent</i> is
+     * negative).
+     */
+    private static long pow10(int exponent) {
+        if (exponent < 0 || exponent > 18) {
+            return -1;
+        }
+        long result = 1;
+        for (int count = 0; count < exponent; count++) {
+            result *= 10;
+        }
+        return result;
     }
 
     /**
-     * @return A new {@code DecimalFormat} configured based of this formatter's properties.
+     * @return Pool of {@code DecimalFormat}s configured based of this formatter's properties.
      */
-    private DecimalFormat newDecimalFormat() {
+    private ObjectPool<DecimalFormat> formatterPool() {
         // Basic format.
         StringBuilder buf = new StringBuilder(32).append("#,##0");
 
@@ -169,7 +236,8 @@ public class NumberFormatter {
             }
         }
 
-        return new DecimalFormat(buf.toString());
+        return FORMAT_POOLS.computeIfAbsent(buf.toString(),
+                pattern -> new ObjectPool<>("NumberFormatter", () -> new DecimalFormat(pattern)));
     }
 
 }
@@ -1,5 +1,7 @@
 package gcommon.objects;
 
+import gcommon.metrics.Histogram;
+import gcommon.metrics.Metrics;
 import java.lang.reflect.Field;
 import java.util.Collection;
 
@@ -13,6 +15,11 @@ import java.util.Collection;
  */
 public class ObjectPrinter {
 
+    /**
+     * Time spent introspecting objects (see {@link #newPrinter(Object, Class, boolean)}), in nanoseconds.
+     */
+    private static final Histogram INTROSPECTION_NANOS = Metrics.histogram("gcommon.objects.printer.nanos");
+
     /**
      * Flag indicating whether any field was set.
      */
@@ -98,6 +105,14 @@ public class ObjectPrinter {
             throw new IllegalArgumentException("Object cannot be null.");
         }
 
+        long start = Metrics.startTime();
+        ObjectPrinter printer = introspect(object, withClazz, recursive);
+        INTROSPECTION_NANOS.recordSince(start);
+        return printer;
+    }
+
+    private static <T> ObjectPrinter introspect(T object, Class<? extends T> withClazz, boolean recursive)
+            throws IllegalStateException {
         Class<?> cls = withClazz == null ? object.getClass() : withClazz;
 
         ObjectPrinter printer = new ObjectPrinter(cls);
@@ -105,17 +120,13 @@ public class ObjectPrinter {
         // If caller requested to recursively include the entire tree, insert parent toString first.
         if (recursive && !cls.getSuperclass().equals(Object.class) && !cls.getSuperclass().equals(ObjectBase.class)) {
             printer.prepend("{ super ");
-            printer.include(newPrinter(object, cls.getSuperclass(), true));
+            printer.include(introspect(object, cls.getSuperclass(), true));
             printer.buf.append(" } ");
         }
 
-        // Generate list of all object's fields and traverse the list.
-        Field[] fields = cls.getDeclaredFields();
-        for (Field field : fields) {
+        // Traverse all object's fields (made accessible once per class).
+        for (Field field : FieldAccessors.declaredFields(cls)) {
             try {
-                // Allow access to a private field.
-                field.setAccessible(true);
-
                 PrinterHint printerHint = field.getAnnotation(PrinterHint.class);
                 if (printerHint == null || printerHint.value()) {
                     // For each field, append it to the printer.
@@ -1,5 +1,8 @@
 package gcommon.objects;
 
+import gcommon.metrics.Histogram;
+import gcommon.metrics.Metrics;
+import gcommon.pool.ObjectPool;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
@@ -29,6 +32,22 @@ public class ObjectUtils {
 
     private final static int SIZE = 10 * 1024;
 
+    /**
+     * Time spent cloning objects, in nanoseconds.
+     */
+    private static final Histogram CLONE_NANOS = Metrics.histogram("gcommon.objects.clone.nanos");
+
+    /**
+     * Serialized size of cloned objects, in bytes.
+     */
+    private static final Histogram CLONE_BYTES = Metrics.histogram("gcommon.objects.clone.bytes");
+
+    /**
+     * Buffers for serialized state of cloned objects.
+     */
+    private static final ObjectPool<CloneBuffer> CLONE_BUFFERS = new ObjectPool<>("CloneBuffer", CloneBuffer::new,
+            CloneBuffer::recycle, ObjectPool.DEFAULT_CAPACITY);
+
     /**
      * Clone an object, deep copying its state (using Java serialization/deserialization).
      *
@@ -43,22 +62,58 @@ public class ObjectUtils {
             return null;
         }
 
+        CloneBuffer buffer = CLONE_BUFFERS.acquire();
         try {
+            long start = Metrics.startTime();
+
             //
             // Serialize object to memory.
             //
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(SIZE);
-            ObjectOutputStream out = new ObjectOutputStream(byteArrayOutputStream);
+            ObjectOutputStream out = new ObjectOutputStream(buffer);
             out.writeObject(source);
+            out.flush();
 
             //
-            // Deserialize object from memory.
+            // Deserialize object from memory (directly from buffer, without copying).
             //
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
-            ObjectInputStream ois = new ObjectInputStream(byteArrayInputStream);
-            return (T) ois.readObject();
+            ObjectInputStream ois = new ObjectInputStream(buffer.toInputStream());
+            T clone = (T) ois.readObject();
+
+            CLONE_NANOS.recordSince(start);
+            CLONE_BYTES.record(buffer.size());
+            return clone;
         } catch (Exception ex) {
             throw new IllegalStateException("Clone failed.", ex);
+        } finally {
+            CLONE_BUFFERS.release(buffer);
+        }
+    }
+
+    /**
+     * A reusable serialization buffer.
+     */
+    private static final class CloneBuffer extends ByteArrayOutputStream {
+
+        CloneBuffer() {
+            super(SIZE);
+        }
+
+        /**
+         * @return Input stream reading the buffer's content.
+         */
+        ByteArrayInputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+
+        /**
+         * Clear buffer, releasing its storage if it grew. Idle buffers are held per thread for as long as the thread
+         * lives, so each retains no more than the initial size.
+         */
+        void recycle() {
+            reset();
+            if (buf.length > SIZE) {
+                buf = new byte[SIZE];
+            }
         }
     }
 
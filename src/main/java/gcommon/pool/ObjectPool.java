@@ -0,0 +1,333 @@
+package gcommon.pool;
+
+import gcommon.metrics.Counter;
+import gcommon.metrics.Metrics;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * A lock-free pool of reusable objects, for objects that are expensive to create (e.g.: formatters or buffers) but
+ * cannot be shared between threads.<p>
+ * Each thread has a private slot holding a single idle object, so a thread that repeatedly acquires and releases an
+ * object never touches shared state. Additional idle objects are kept in a bounded, shared overflow area, split into
+ * stripes so that threads start searching at different positions. When the pool is empty a new object is created;
+ * when it is full, released objects are dropped. Objects are reset (via an optional hook) when released.<p>
+ * Objects that are acquired and never released are not lost - they are garbage collected as usual. To find such
+ * leaks, enable debug mode (system property {@code gcommon.pool.debug}, or {@link #setLeakDetection(boolean)}): each
+ * acquired object is then tracked, and objects collected without being released are reported along with the stack
+ * trace of their acquisition (logged as warnings, unless a handler is set via {@link #setLeakHandler(Consumer)}).
+ * Debug mode is costly and is not intended for production.<p>
+ * Pool usage is reported via {@link Metrics} as counters named {@code gcommon.pool.<name>.hits}, {@code .misses},
+ * {@code .drops} and {@code .leaks}. Instances are thread-safe.
+ *
+ * @param <T> Generic type of pooled objects.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ObjectPool<T> {
+
+    /**
+     * Name of system property that enables leak detection for all pools.
+     */
+    public static final String DEBUG_PROPERTY = "gcommon.pool.debug";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ObjectPool.class);
+
+    /**
+     * Default capacity of shared overflow area.
+     */
+    public static final int DEFAULT_CAPACITY = 4 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of slots per stripe.
+     */
+    private static final int STRIPE_SIZE = 4;
+
+    private final String name;
+
+    private final Supplier<? extends T> factory;
+
+    private final Consumer<? super T> resetHook;
+
+    /**
+     * Per-thread idle object.
+     */
+    private final ThreadLocal<Slot<T>> localSlot = ThreadLocal.withInitial(Slot::new);
+
+    /**
+     * Shared idle objects ({@code null} for an empty slot).
+     */
+    private final SlotArray<T> overflow;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter drops;
+
+    private final Counter leaks;
+
+    /**
+     * Whether acquired objects are tracked.
+     */
+    private volatile boolean leakDetection = Boolean.getBoolean(DEBUG_PROPERTY);
+
+    /**
+     * Handler of detected leaks.
+     */
+    private volatile Consumer<? super Throwable> leakHandler = this::logLeak;
+
+    /**
+     * Trackers of acquired objects (debug mode only).
+     */
+    private final Set<LeakTracker> tracked = ConcurrentHashMap.newKeySet();
+
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * Class constructor. Creates a pool with {@link #DEFAULT_CAPACITY default capacity} and no reset hook.
+     *
+     * @param name    Name of pool, used for naming its metrics.
+     * @param factory Factory of new objects.
+     * @throws IllegalArgumentException If either <i>name</i> or <i>factory</i> are {@code null}.
+     */
+    public ObjectPool(String name, Supplier<? extends T> factory) throws IllegalArgumentException {
+        this(name, factory, null, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Class constructor.
+     *
+     * @param name      Name of pool, used for naming its metrics.
+     * @param factory   Factory of new objects.
+     * @param resetHook Optional hook to reset an object's state when it is released (may be {@code null}).
+     * @param capacity  Maximum number of idle objects kept in shared overflow area (in addition to one per thread).
+     * @throws IllegalArgumentException If either <i>name</i> or <i>factory</i> are {@code null}, or <i>capacity</i>
+     *                                  is negative.
+     */
+    public ObjectPool(String name, Supplier<? extends T> factory, Consumer<? super T> resetHook, int capacity)
+            throws IllegalArgumentException {
+        Assert.notNull(name, "Name cannot be null.");
+        Assert.notNull(factory, "Factory cannot be null.");
+        Assert.isTrue(capacity >= 0, "Capacity cannot be negative.");
+
+        this.name = name;
+        this.factory = factory;
+        this.resetHook = resetHook;
+        this.overflow = new SlotArray<>(capacity);
+        this.hits = Metrics.counter("gcommon.pool." + name + ".hits");
+        this.misses = Metrics.counter("gcommon.pool." + name + ".misses");
+        this.drops = Metrics.counter("gcommon.pool." + name + ".drops");
+        this.leaks = Metrics.counter("gcommon.pool." + name + ".leaks");
+    }
+
+    /**
+     * Acquire an object: the calling thread's idle object, a shared idle object, or a new one. The object should be
+     * returned with {@link #release(Object)} once done.
+     *
+     * @return Object.
+     */
+    public T acquire() {
+        T object = poll();
+        if (object != null) {
+            hits.increment();
+        } else {
+            object = factory.get();
+            misses.increment();
+        }
+
+        if (leakDetection) {
+            track(object);
+        }
+        return object;
+    }
+
+    /**
+     * Return an object to the pool, after resetting it. The object must not be used after being released.
+     *
+     * @param object Object to return. If {@code null}, no action is performed.
+     */
+    public void release(T object) {
+        if (object == null) {
+            return;
+        }
+
+        if (leakDetection || !tracked.isEmpty()) {
+            untrack(object);
+        }
+        if (resetHook != null) {
+            resetHook.accept(object);
+        }
+
+        Slot<T> slot = localSlot.get();
+        if (slot.idle == null) {
+            slot.idle = object;
+            return;
+        }
+
+        int length = overflow.length();
+        int start = stripeOf(length);
+        for (int offset = 0; offset < length; offset++) {
+            int index = (start + offset) % length;
+            if (overflow.get(index) == null && overflow.compareAndSet(index, null, object)) {
+                return;
+            }
+        }
+        drops.increment();
+    }
+
+    /**
+     * @return Name of pool.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Number of idle objects in shared overflow area (excluding per-thread idle objects).
+     */
+    public int getIdleCount() {
+        int count = 0;
+        for (int index = 0; index < overflow.length(); index++) {
+            if (overflow.get(index) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Discard idle objects in shared overflow area and in calling thread's slot. Idle objects held by other threads'
+     * slots are retained.
+     */
+    public void clear() {
+        localSlot.remove();
+        for (int index = 0; index < overflow.length(); index++) {
+            overflow.set(index, null);
+        }
+    }
+
+    /**
+     * Enable or disable leak detection for this pool (see class description).
+     *
+     * @param leakDetection {@code true} to track acquired objects.
+     */
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    /**
+     * Set handler of detected leaks. Each leak is reported as an exception whose stack trace is that of the leaked
+     * object's acquisition. Default handler logs a warning (via SLF4J), with the stack trace.
+     *
+     * @param leakHandler Leak handler.
+     * @throws IllegalArgumentException If <i>leakHandler</i> is {@code null}.
+     */
+    public void setLeakHandler(Consumer<? super Throwable> leakHandler) throws IllegalArgumentException {
+        Assert.notNull(leakHandler, "Leak handler cannot be null.");
+        this.leakHandler = leakHandler;
+    }
+
+    /**
+     * Report objects that were collected without being released. Called upon each acquisition in debug mode, and may
+     * be called explicitly (e.g.: after a garbage collection in tests).
+     *
+     * @return Number of leaks reported.
+     */
+    public int detectLeaks() {
+        int count = 0;
+        LeakTracker tracker;
+        while ((tracker = (LeakTracker) collected.poll()) != null) {
+            if (tracked.remove(tracker)) {
+                count++;
+                leaks.increment();
+                leakHandler.accept(tracker.acquisition);
+            }
+        }
+        return count;
+    }
+
+    private void logLeak(Throwable acquisition) {
+        LOG.warn("Object of pool '{}' was collected without being released.", name, acquisition);
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectPool{name=" + name + ", idle=" + getIdleCount() + "}";
+    }
+
+    private T poll() {
+        Slot<T> slot = localSlot.get();
+        T object = slot.idle;
+        if (object != null) {
+            slot.idle = null;
+            return object;
+        }
+
+        int length = overflow.length();
+        int start = stripeOf(length);
+        for (int offset = 0; offset < length; offset++) {
+            int index = (start + offset) % length;
+            object = overflow.get(index);
+            if (object != null && overflow.compareAndSet(index, object, null)) {
+                return object;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return First overflow slot searched by calling thread.
+     */
+    private static int stripeOf(int length) {
+        if (length == 0) {
+            return 0;
+        }
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (((hash >>> 16) * STRIPE_SIZE) & Integer.MAX_VALUE) % length;
+    }
+
+    private void track(T object) {
+        detectLeaks();
+        tracked.add(new LeakTracker(object, collected, new IllegalStateException(
+                "Object acquired from pool '" + name + "' was never released.")));
+    }
+
+    private void untrack(T object) {
+        for (LeakTracker tracker : tracked) {
+            if (tracker.get() == object) {
+                tracked.remove(tracker);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Per-thread slot.
+     */
+    private static final class Slot<T> {
+
+        T idle;
+    }
+
+    /**
+     * Weak reference to an acquired object, along with its acquisition site.
+     */
+    private static final class LeakTracker extends WeakReference<Object> {
+
+        final Throwable acquisition;
+
+        LeakTracker(Object referent, ReferenceQueue<Object> queue, Throwable acquisition) {
+            super(referent, queue);
+            this.acquisition = acquisition;
+        }
+    }
+}
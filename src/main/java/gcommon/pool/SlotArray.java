@@ -0,0 +1,36 @@
+package gcommon.pool;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size array of slots updated atomically, backing the shared overflow area of {@link ObjectPool}. Java 11 and
+ * later use a {@code VarHandle}-based variant (see {@code src/main/java11}).
+ *
+ * @param <T> Generic type of slot values.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class SlotArray<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    SlotArray(int length) {
+        this.slots = new AtomicReferenceArray<>(length);
+    }
+
+    int length() {
+        return slots.length();
+    }
+
+    T get(int index) {
+        return slots.get(index);
+    }
+
+    void set(int index, T value) {
+        slots.set(index, value);
+    }
+
+    boolean compareAndSet(int index, T expected, T value) {
+        return slots.compareAndSet(index, expected, value);
+    }
+}
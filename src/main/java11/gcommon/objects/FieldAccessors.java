@@ -0,0 +1,39 @@
+package gcommon.objects;
+
+import java.lang.reflect.Field;
+
+/**
+ * Per-class cache of declared fields, made accessible, for reflective access by {@link ObjectPrinter} (and hence by
+ * {@link ObjectBase#toString()}). This Java 11 variant opens fields with {@link Field#trySetAccessible()}: fields of
+ * classes in modules that are not open to this library (e.g.: JDK internals) remain inaccessible, and reading them
+ * fails with an {@link IllegalAccessException} (reported by the printer as {@link IllegalStateException}) rather than
+ * an {@code InaccessibleObjectException}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class FieldAccessors {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            Field[] fields = type.getDeclaredFields();
+            for (Field field : fields) {
+                field.trySetAccessible();
+            }
+            return fields;
+        }
+    };
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * @param type Class to look up.
+     * @return Fields declared by <i>type</i>, accessible where permitted. The returned array is shared and must not be
+     * modified.
+     */
+    static Field[] declaredFields(Class<?> type) {
+        return FIELDS.get(type);
+    }
+}
@@ -0,0 +1,42 @@
+package gcommon.pool;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-size array of slots updated atomically, backing the shared overflow area of {@link ObjectPool}. This Java 11
+ * variant accesses a plain array through a {@code VarHandle}: a slot is published with release semantics and read with
+ * acquire semantics (rather than the full volatile semantics of {@code AtomicReferenceArray}), and no wrapper object
+ * stands between the pool and its array.
+ *
+ * @param <T> Generic type of slot values.
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+final class SlotArray<T> {
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Object[] slots;
+
+    SlotArray(int length) {
+        this.slots = new Object[length];
+    }
+
+    int length() {
+        return slots.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int index) {
+        return (T) SLOT.getAcquire(slots, index);
+    }
+
+    void set(int index, T value) {
+        SLOT.setRelease(slots, index, value);
+    }
+
+    boolean compareAndSet(int index, T expected, T value) {
+        return SLOT.compareAndSet(slots, index, expected, value);
+    }
+}
@@ -0,0 +1,195 @@
+package gcommon.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that records, at build time, the public methods annotated with a chosen set of annotation
+ * types, so that {@code gcommon.annotation.AnnotationUtils} can look them up without scanning classes via reflection
+ * at startup.<p>
+ * Annotation types to index are given via the {@value #ANNOTATIONS_OPTION} option, as a comma-separated list of
+ * fully-qualified names (e.g.: {@code -Agcommon.index.annotations=com.acme.OnEvent,com.acme.OnClose}). Each class
+ * compiled in the same compilation is recorded, along with all its public methods (including inherited ones) that are
+ * annotated with any of the indexed types. The index is written to {@value #INDEX_RESOURCE}.<p>
+ * Index format is line-based UTF-8 text:
+ * <pre>
+ *     annotation &lt;annotation type&gt;                     (one line per indexed annotation type)
+ *     class &lt;binary class name&gt;                        (one line per indexed class)
+ *     method &lt;annotation type&gt; &lt;name&gt; [&lt;param&gt;,...]    (annotated methods of preceding class)
+ * </pre>
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(AnnotatedMethodIndexProcessor.ANNOTATIONS_OPTION)
+public class AnnotatedMethodIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Name of option listing annotation types to index.
+     */
+    public static final String ANNOTATIONS_OPTION = "gcommon.index.annotations";
+
+    /**
+     * Location of generated index (relative to class output).
+     */
+    public static final String INDEX_RESOURCE = "META-INF/gcommon/annotation.index";
+
+    /**
+     * Indexed annotation types (fully-qualified names).
+     */
+    private final Set<String> annotationTypes = new LinkedHashSet<>();
+
+    /**
+     * Index entries: binary class name to list of method lines.
+     */
+    private final Map<String, List<String>> classes = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotationTypes.isEmpty()) {
+            String option = processingEnv.getOptions().get(ANNOTATIONS_OPTION);
+            if (option == null || option.trim().isEmpty()) {
+                return false;
+            }
+            for (String type : option.split(",")) {
+                if (!type.trim().isEmpty()) {
+                    annotationTypes.add(type.trim());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            indexType(type);
+        }
+
+        // Never claim annotations - other processors may handle them as well.
+        return false;
+    }
+
+    /**
+     * Record a type and (recursively) its nested types.
+     *
+     * @param type Type to record.
+     */
+    private void indexType(TypeElement type) {
+        String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        List<String> methods = new ArrayList<>();
+
+        // All members, including inherited ones (but excluding overridden methods), like Class.getMethods().
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                String annotationName = processingEnv.getElementUtils().getBinaryName(annotationType).toString();
+                if (annotationTypes.contains(annotationName)) {
+                    String parameters = parameters(method);
+                    methods.add("method " + annotationName + " " + method.getSimpleName()
+                            + (parameters.isEmpty() ? "" : " " + parameters));
+                }
+            }
+        }
+
+        classes.put(className, methods);
+
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind().isClass() || enclosed.getKind().isInterface()
+                    || enclosed.getKind() == ElementKind.ENUM) {
+                indexType((TypeElement) enclosed);
+            }
+        }
+    }
+
+    /**
+     * @param method Method to describe.
+     * @return Comma-separated list of method's erased parameter types.
+     */
+    private String parameters(ExecutableElement method) {
+        StringBuilder buf = new StringBuilder();
+        for (VariableElement parameter : method.getParameters()) {
+            if (buf.length() > 0) {
+                buf.append(',');
+            }
+            buf.append(typeName(processingEnv.getTypeUtils().erasure(parameter.asType())));
+        }
+        return buf.toString();
+    }
+
+    /**
+     * @param type Erased type.
+     * @return Name of type, as understood by {@code ClassUtils.forName}: primitive names, binary names of classes, and
+     * a {@code []} suffix for arrays.
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            return processingEnv.getElementUtils().getBinaryName(element).toString();
+        }
+        return type.toString();
+    }
+
+    /**
+     * Write index resource.
+     */
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Writer writer = resource.openWriter()) {
+                for (String annotationType : annotationTypes) {
+                    writer.write("annotation " + annotationType + "\n");
+                }
+                for (Map.Entry<String, List<String>> entry : classes.entrySet()) {
+                    writer.write("class " + entry.getKey() + "\n");
+                    for (String method : entry.getValue()) {
+                        writer.write(method + "\n");
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write annotation index: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package gcommon;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test suite for {@link FormatTemplate}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class FormatTemplateTest {
+
+    /**
+     * Test that common specifiers render exactly as {@link String#format(Locale, String, Object...)} does.
+     */
+    @Test
+    public void testCommonSpecifiers() {
+        assertSameAsFormatter(Locale.US, "Hello there Mr. %s", "Smith");
+        assertSameAsFormatter(Locale.US, "%s and %s", null, 12);
+        assertSameAsFormatter(Locale.US, "%d/%d/%d/%d", (byte) -1, (short) 2, -3, Long.MIN_VALUE);
+        assertSameAsFormatter(Locale.US, "%d", new BigInteger("-123456789012345678901234567890"));
+        assertSameAsFormatter(Locale.US, "%x %x %x %x", (byte) -1, (short) -2, -3, Long.MIN_VALUE);
+        assertSameAsFormatter(Locale.US, "%,d %,d %,d %,d", 0, 999, -1234567, Long.MIN_VALUE);
+        assertSameAsFormatter(Locale.GERMANY, "%,d", 1234567890L);
+        assertSameAsFormatter(Locale.US, "100%% done%n");
+    }
+
+    /**
+     * Test that exotic specifiers and argument indices are delegated correctly.
+     */
+    @Test
+    public void testExoticSpecifiers() {
+        assertSameAsFormatter(Locale.US, "[%-10s] [%5d] [%08.3f] [%S]", "abc", 42, 3.14159, "upper");
+        assertSameAsFormatter(Locale.US, "%2$s %1$s %<s %s", "a", "b");
+        assertSameAsFormatter(Locale.US, "%,.2f", 1234567.891);
+        assertSameAsFormatter(Locale.US, "%tY", new java.util.Date(0));
+    }
+
+    /**
+     * Test error reporting for missing arguments and malformed formats.
+     */
+    @Test
+    public void testErrors() {
+        try {
+            StringUtils.compile("%s %s").format("one");
+            Assert.fail("Expected MissingFormatArgumentException.");
+        } catch (MissingFormatArgumentException ex) {
+            // Expected.
+        }
+
+        try {
+            StringUtils.compile("Incomplete %").format();
+            Assert.fail("Expected UnknownFormatConversionException.");
+        } catch (UnknownFormatConversionException ex) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Test that a failed rendering appends nothing, and fails as {@link java.util.Formatter} does.
+     */
+    @Test
+    public void testErrorsAppendNothing() {
+        StringBuilder buf = new StringBuilder("> ");
+        try {
+            StringUtils.compile("hello %s and %q").appendTo(buf, "one");
+            Assert.fail("Expected UnknownFormatConversionException.");
+        } catch (UnknownFormatConversionException ex) {
+            // Expected (as thrown by Formatter, rather than a missing argument).
+        }
+        Assert.assertEquals("> ", buf.toString());
+
+        try {
+            StringUtils.compile("%s and %s").appendTo(buf, "one");
+            Assert.fail("Expected MissingFormatArgumentException.");
+        } catch (MissingFormatArgumentException ex) {
+            // Expected.
+        }
+        Assert.assertEquals("> ", buf.toString());
+    }
+
+    /**
+     * Test that {@link StringUtils#formats(StringBuilder, String, Object...)} appends to a given buffer.
+     */
+    @Test
+    public void testFormatsAppendsToBuffer() {
+        StringBuilder buf = new StringBuilder("> ");
+        Assert.assertSame(buf, StringUtils.formats(buf, "%s=%d", "x", 5));
+        Assert.assertEquals("> x=5", buf.toString());
+        Assert.assertEquals(String.format("%s=%d", "y", 6), StringUtils.formats("%s=%d", "y", 6));
+    }
+
+    private static void assertSameAsFormatter(Locale locale, String format, Object... arguments) {
+        Assert.assertEquals(String.format(locale, format, arguments),
+                FormatTemplate.compile(locale, format).format(arguments));
+    }
+}
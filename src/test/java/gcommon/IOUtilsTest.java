@@ -0,0 +1,169 @@
+package gcommon;
+
+import gcommon.pool.ObjectPool;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link IOUtils} and {@link BufferPool}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class IOUtilsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test copying between streams, channels and files (both kernel-level and buffered paths).
+     */
+    @Test
+    public void testCopy() throws IOException {
+        byte[] content = new byte[300 * 1024 + 17];
+        new Random(7).nextBytes(content);
+        Path source = folder.newFile().toPath();
+        Files.write(source, content);
+
+        // File to file.
+        Path target = folder.newFile().toPath();
+        Assert.assertEquals(content.length, IOUtils.copy(source, target));
+        Assert.assertArrayEquals(content, Files.readAllBytes(target));
+
+        // File streams (via channels), starting mid-stream.
+        Path streamed = folder.newFile().toPath();
+        try (FileInputStream in = new FileInputStream(source.toFile());
+             FileOutputStream out = new FileOutputStream(streamed.toFile())) {
+            Assert.assertEquals(10, in.skip(10));
+            Assert.assertEquals(content.length - 10, IOUtils.copy(in, out));
+            Assert.assertEquals(-1, in.read());
+        }
+        Assert.assertEquals(content.length - 10, Files.size(streamed));
+
+        // Plain streams.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertEquals(content.length, IOUtils.copy(new ByteArrayInputStream(content), out));
+        Assert.assertArrayEquals(content, out.toByteArray());
+
+        // Non-file channel into a file channel.
+        Path channelled = folder.newFile().toPath();
+        try (FileChannel channel = FileChannel.open(channelled, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+            IOUtils.copy(Channels.newChannel(new ByteArrayInputStream(content)), channel);
+        }
+        Assert.assertEquals(content.length + 3, Files.size(channelled));
+        Assert.assertEquals(content[content.length - 1], Files.readAllBytes(channelled)[content.length + 2]);
+    }
+
+    /**
+     * Test reading files, both small (read into heap) and large (memory-mapped), and streams.
+     */
+    @Test
+    public void testRead() throws IOException {
+        byte[] large = new byte[(int) IOUtils.MAPPED_READ_THRESHOLD + 1];
+        new Random(7).nextBytes(large);
+        Path file = folder.newFile().toPath();
+        Files.write(file, large);
+        Assert.assertArrayEquals(large, IOUtils.readAll(file));
+        Assert.assertTrue(IOUtils.readFully(file).isDirect());
+
+        Files.write(file, "small".getBytes());
+        Assert.assertEquals("small", new String(IOUtils.readAll(file)));
+        Assert.assertTrue(IOUtils.readFully(file).isReadOnly());
+
+        Assert.assertArrayEquals(large, IOUtils.readAll(new ByteArrayInputStream(large)));
+
+        byte[] buffer = new byte[4];
+        IOUtils.readFully(new ByteArrayInputStream(new byte[]{1, 2, 3}), buffer, 1, 3);
+        Assert.assertArrayEquals(new byte[]{0, 1, 2, 3}, buffer);
+    }
+
+    /**
+     * Test buffer pool sizing, reuse and bounds.
+     */
+    @Test
+    public void testBufferPool() {
+        BufferPool pool = new BufferPool(5000, 1, false);
+        Assert.assertEquals(8192, pool.getBufferSize());
+
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        first.put((byte) 1);
+        pool.release(first);
+        pool.release(second);
+        pool.release(ByteBuffer.allocate(10));
+        Assert.assertEquals(1, pool.getPooledCount());
+
+        ByteBuffer reused = pool.acquire();
+        Assert.assertSame(first, reused);
+        Assert.assertEquals(0, reused.position());
+        Assert.assertEquals(0, pool.getPooledCount());
+    }
+
+    /**
+     * Test that copying to a non-blocking channel is rejected (rather than spinning on writes that make no progress).
+     */
+    @Test
+    public void testNonBlockingChannelRejected() throws IOException {
+        Path source = folder.newFile().toPath();
+        Files.write(source, new byte[100]);
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            try {
+                IOUtils.transferTo(source, pipe.sink());
+                Assert.fail("Expected IllegalArgumentException.");
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+                IOUtils.copy(in, pipe.sink());
+                Assert.fail("Expected IllegalArgumentException.");
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    /**
+     * Test that in debug mode, releasing a buffer twice fails.
+     */
+    @Test
+    public void testBufferPoolDoubleRelease() {
+        System.setProperty(ObjectPool.DEBUG_PROPERTY, "true");
+        BufferPool pool;
+        try {
+            pool = new BufferPool(100, 4, false);
+        } finally {
+            System.clearProperty(ObjectPool.DEBUG_PROPERTY);
+        }
+
+        ByteBuffer buffer = pool.acquire();
+        pool.release(buffer);
+        try {
+            pool.release(buffer);
+            Assert.fail("Expected IllegalStateException.");
+        } catch (IllegalStateException ex) {
+            // Expected.
+        }
+        Assert.assertEquals(1, pool.getPooledCount());
+    }
+}
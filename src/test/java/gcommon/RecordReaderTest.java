@@ -0,0 +1,111 @@
+package gcommon;
+
+import gcommon.marshaller.JsonObjectMarshaller;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link RecordReader}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class RecordReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test splitting into lines, including CR-LF, empty and unterminated lines, records spanning buffer refills and
+     * records longer than the initial buffer.
+     */
+    @Test
+    public void testForEachLine() throws IOException {
+        String text = "first\r\n\nthird line is longer than buffer\n\u05d0\u05d1\nlast";
+        List<String> lines = new ArrayList<>();
+        RecordReader reader = new RecordReader(Channels.newChannel(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), (byte) '\n', 8, 1024);
+        Assert.assertEquals(5, reader.forEachLine(line -> lines.add(line.toString())));
+        Assert.assertEquals(Arrays.asList("first", "", "third line is longer than buffer", "\u05d0\u05d1", "last"),
+                lines);
+
+        RecordReader limited = new RecordReader(Channels.newChannel(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))), (byte) '\n', 8, 16);
+        try {
+            limited.forEach(record -> { });
+            Assert.fail("Expected IOException.");
+        } catch (IOException ex) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Test JSON-lines ingestion, unmarshalling records in place.
+     */
+    @Test
+    public void testJsonLines() throws IOException {
+        JsonObjectMarshaller marshaller = new JsonObjectMarshaller();
+        StringBuilder buf = new StringBuilder();
+        for (int index = 0; index < 100; index++) {
+            buf.append(new String(marshaller.marshal(new String[]{"value", Integer.toString(index)}),
+                    StandardCharsets.UTF_8)).append('\n');
+        }
+
+        List<String> values = new ArrayList<>();
+        new RecordReader(new ByteArrayInputStream(buf.toString().getBytes(StandardCharsets.UTF_8))).forEach(record ->
+                values.add(marshaller.unmarshal(record.array(), record.arrayOffset() + record.position(),
+                        record.remaining(), String[].class)[1]));
+        Assert.assertEquals(100, values.size());
+        Assert.assertEquals("99", values.get(99));
+    }
+
+    /**
+     * Test parallel processing of a file split at record boundaries.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int index = 0; index < 10000; index++) {
+            buf.append(index).append('\n');
+        }
+        Path file = folder.newFile().toPath();
+        Files.write(file, buf.toString().getBytes(StandardCharsets.UTF_8));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicLong sum = new AtomicLong();
+            List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+            long count = RecordReader.forEach(file, executor, 7, record -> {
+                int value = Integer.parseInt(StandardCharsets.US_ASCII.decode(record).toString());
+                sum.addAndGet(value);
+                seen.add(value);
+            });
+            Assert.assertEquals(10000, count);
+            Assert.assertEquals(10000L * 9999 / 2, sum.get());
+            Assert.assertEquals(10000, seen.stream().distinct().count());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Reading via a single reader yields identical count.
+        try (RecordReader reader = RecordReader.open(file)) {
+            Assert.assertEquals(10000, reader.forEach(ByteBuffer::remaining));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package gcommon;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ResourceScope} and {@link CloseReport}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ResourceScopeTest {
+
+    /**
+     * Test sequential closing: reverse order, failure aggregation and per-type timings.
+     */
+    @Test
+    public void testSequentialClose() {
+        List<String> order = new ArrayList<>();
+        ResourceScope scope = new ResourceScope();
+        scope.register(() -> order.add("first"));
+        scope.register(() -> {
+            throw new IOException("Failed.");
+        });
+        scope.register(() -> order.add("last"));
+
+        CloseReport report = scope.closeAll();
+        Assert.assertEquals(Arrays.asList("last", "first"), order);
+        Assert.assertEquals(3, report.getClosedCount());
+        Assert.assertEquals(1, report.getFailures().size());
+        Assert.assertFalse(report.isSuccessful());
+        Assert.assertEquals(3, report.getTimings().values().stream().mapToInt(CloseReport.TypeTiming::getCount).sum());
+        try {
+            report.throwIfFailed();
+            Assert.fail("Expected IOException.");
+        } catch (IOException ex) {
+            Assert.assertEquals(1, ex.getSuppressed().length);
+        }
+
+        Assert.assertTrue(scope.closeAll().isSuccessful());
+        try {
+            scope.register(() -> { });
+            Assert.fail("Expected IllegalStateException.");
+        } catch (IllegalStateException ex) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Test that closing a scope (e.g.: by try-with-resources) closes all resources and throws their failures.
+     */
+    @Test
+    public void testCloseThrowsFailures() {
+        List<String> order = new ArrayList<>();
+        try (ResourceScope scope = new ResourceScope()) {
+            scope.register(() -> order.add("first"));
+            scope.register(() -> {
+                throw new IOException("Failed.");
+            });
+            scope.register(() -> {
+                throw new IllegalStateException("Failed.");
+            });
+            Assert.assertEquals(3, scope.size());
+        } catch (IOException ex) {
+            order.add("failed");
+            Assert.assertEquals(2, ex.getSuppressed().length);
+        }
+        Assert.assertEquals(Arrays.asList("first", "failed"), order);
+    }
+
+    /**
+     * Test parallel closing of many resources, including resources that miss the deadline.
+     */
+    @Test
+    public void testParallelClose() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger closed = new AtomicInteger();
+            ResourceScope scope = new ResourceScope();
+            for (int index = 0; index < 1000; index++) {
+                scope.register(closed::incrementAndGet);
+            }
+
+            CloseReport report = scope.closeAll(executor, 10, TimeUnit.SECONDS);
+            Assert.assertTrue(report.isSuccessful());
+            Assert.assertEquals(1000, report.getClosedCount());
+            Assert.assertEquals(1000, closed.get());
+
+            CountDownLatch release = new CountDownLatch(1);
+            ResourceScope blocked = new ResourceScope();
+            AutoCloseable hanging = blocked.register(release::await);
+            report = blocked.closeAll(executor, 50, TimeUnit.MILLISECONDS);
+            Assert.assertEquals(Arrays.asList(hanging), report.getTimedOut());
+            Assert.assertEquals(0, report.getClosedCount());
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package gcommon;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SizeUnits}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class SizeUnitsTest {
+
+    /**
+     * Test conversion between units, including truncation and overflow.
+     */
+    @Test
+    public void testConvert() {
+        Assert.assertEquals(3L << 30, SizeUnits.GB.toBytes(3));
+        Assert.assertEquals(1, SizeUnits.KB.fromBytes(1536));
+        Assert.assertEquals(-1, SizeUnits.KB.fromBytes(-1536));
+        Assert.assertEquals(2048, SizeUnits.KB.convert(2, SizeUnits.MB));
+        Assert.assertEquals(1, SizeUnits.MB.convert(2047, SizeUnits.KB));
+        Assert.assertEquals(SizeUnits.EB, SizeUnits.unitOf(Long.MIN_VALUE));
+        Assert.assertEquals(SizeUnits.BYTES, SizeUnits.unitOf(1023));
+        Assert.assertEquals(SizeUnits.KB, SizeUnits.unitOf(-1024));
+        try {
+            SizeUnits.EB.toBytes(8);
+            Assert.fail("Expected ArithmeticException.");
+        } catch (ArithmeticException ex) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Test parsing of valid and invalid sizes.
+     */
+    @Test
+    public void testParse() {
+        Assert.assertEquals(512, SizeUnits.parse("512"));
+        Assert.assertEquals(512L << 20, SizeUnits.parse("512M"));
+        Assert.assertEquals(3L << 29, SizeUnits.parse("1.5G"));
+        Assert.assertEquals(10240, SizeUnits.parse(" 10 KB "));
+        Assert.assertEquals(2L << 30, SizeUnits.parse("2GiB"));
+        Assert.assertEquals(1L << 50, SizeUnits.parse("1p"));
+        Assert.assertEquals(512, SizeUnits.parse(".5k"));
+        Assert.assertEquals(100, SizeUnits.parse("100B"));
+        Assert.assertEquals(7L << 60, SizeUnits.parse("7E"));
+        Assert.assertEquals(Long.MAX_VALUE, SizeUnits.parse("9223372036854775807"));
+        Assert.assertEquals(5L << 20, SizeUnits.parse("size=5M;", 5, 7));
+
+        for (String invalid : new String[]{"", "M", "1.5X", "-1", "1..5", "8E", "9223372036854775808", "1 M B"}) {
+            try {
+                SizeUnits.parse(invalid);
+                Assert.fail("Expected NumberFormatException for '" + invalid + "'.");
+            } catch (NumberFormatException ex) {
+                // Expected.
+            }
+        }
+    }
+
+    /**
+     * Test formatting.
+     */
+    @Test
+    public void testFormat() {
+        Assert.assertEquals("512", SizeUnits.format(512));
+        Assert.assertEquals("1K", SizeUnits.format(1024));
+        Assert.assertEquals("1.5K", SizeUnits.format(1536));
+        Assert.assertEquals("1.99M", SizeUnits.format((2L << 20) - 1));
+        Assert.assertEquals("-1.25G", SizeUnits.format(-(5L << 28)));
+        Assert.assertEquals("-8E", SizeUnits.format(Long.MIN_VALUE));
+        Assert.assertEquals("7.99E", SizeUnits.format(Long.MAX_VALUE));
+        Assert.assertEquals("1.5G", SizeUnits.format(SizeUnits.parse("1.5G")));
+    }
+}
@@ -1,5 +1,10 @@
 package gcommon;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -21,6 +26,26 @@ public class StringUtilsTest {
         Assert.assertFalse(StringUtils.isValidEmail("guynir75@gmail"));
     }
 
+    /**
+     * Test that {@link StringUtils#formatNumber(long)} matches {@link NumberFormat} output in various locales.
+     */
+    @Test
+    public void testFormatNumber() {
+        long[] values = {0, 7, -7, 999, 1000, -1234567, 123456789012L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH"),
+                new Locale("ar", "EG"), new Locale("hi", "IN")}) {
+            GroupedNumberFormat format = GroupedNumberFormat.getInstance(locale);
+            for (long value : values) {
+                Assert.assertEquals(locale + ": " + value, NumberFormat.getInstance(locale).format(value),
+                        format.format(value));
+            }
+        }
+
+        StringBuilder buf = new StringBuilder("Total: ");
+        Assert.assertSame(buf, StringUtils.formatNumber(buf, 5L));
+        Assert.assertEquals("Total: " + StringUtils.formatNumber(5L), buf.toString());
+    }
+
     /**
      * Test conversion byte-array to hexadecimal-representation string (see {@link StringUtils#toString(byte[])}).
      */
@@ -31,4 +56,47 @@ public class StringUtilsTest {
         Assert.assertEquals(0, StringUtils.toString(new byte[0]).length());
     }
 
+    /**
+     * Test that hexadecimal encoding variants agree with each other, and that decoding reverses encoding.
+     */
+    @Test
+    public void testHexRoundTrip() {
+        byte[] data = new byte[300];
+        new Random(17).nextBytes(data);
+        String hex = StringUtils.toString(data);
+
+        char[] chars = new char[data.length * 2 + 1];
+        Assert.assertEquals(chars.length, StringUtils.encodeHex(data, 0, data.length, chars, 1));
+        Assert.assertEquals(hex, new String(chars, 1, data.length * 2));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length * 2);
+        StringUtils.encodeHex(ByteBuffer.wrap(data), direct);
+        Assert.assertFalse(direct.hasRemaining());
+        direct.flip();
+        byte[] ascii = new byte[direct.remaining()];
+        direct.get(ascii);
+        Assert.assertEquals(hex, new String(ascii, StandardCharsets.US_ASCII));
+
+        Assert.assertArrayEquals(data, StringUtils.fromHex(hex));
+        Assert.assertArrayEquals(data, StringUtils.fromHex(hex.toUpperCase()));
+        Assert.assertEquals("2030", StringUtils.toHex(new byte[]{0x10, 0x20, 0x30}, 1, 2));
+    }
+
+    /**
+     * Test that decoding rejects malformed input.
+     */
+    @Test
+    public void testHexDecodingValidation() {
+        Assert.assertNull(StringUtils.fromHex(null));
+        Assert.assertEquals(0, StringUtils.fromHex("").length);
+        for (String invalid : new String[]{"abc", "0g", "g0", "\u00e90", "0\uffff"}) {
+            try {
+                StringUtils.fromHex(invalid);
+                Assert.fail("Expected IllegalArgumentException for: " + invalid);
+            } catch (IllegalArgumentException ex) {
+                // Expected.
+            }
+        }
+    }
+
 }
@@ -0,0 +1,132 @@
+package gcommon;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test suite for {@link ValidationUtil}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ValidationUtilTest {
+
+    /**
+     * Test acceptance of valid E-mail addresses.
+     */
+    @Test
+    public void testValidEmails() {
+        for (String email : new String[]{"guynir75@gmail.com", "John.Doe@Example.CO.UK", "a+tag@sub-domain.example.org",
+                "!#$%&'*+/=?^_`{|}~-@x1.io", "a@b.c", "a@1-2--3.example.com"}) {
+            Assert.assertTrue(email, ValidationUtil.isValidEmail(email));
+            Assert.assertTrue(email, StringUtils.isValidEmail(email));
+        }
+    }
+
+    /**
+     * Test rejection of invalid E-mail addresses.
+     */
+    @Test
+    public void testInvalidEmails() {
+        for (String email : new String[]{"", "guynir75gmail.com", "guynir75@gmail", "@gmail.com", "a.@gmail.com",
+                ".a@gmail.com", "a..b@gmail.com", "a@@gmail.com", "a@gmail..com", "a@-gmail.com", "a@gmail-.com",
+                "a@gmail.com.", "a b@gmail.com", "a@g_mail.com", "\u05d0@gmail.com"}) {
+            Assert.assertFalse(email, ValidationUtil.isValidEmail(email));
+            Assert.assertFalse(email, StringUtils.isValidEmail(email));
+        }
+        Assert.assertFalse(StringUtils.isValidEmail(null));
+    }
+
+    /**
+     * Test the maximum address length.
+     */
+    @Test
+    public void testEmailMaximumLength() {
+        String domain = "@example.com";
+        Assert.assertTrue(ValidationUtil.isValidEmail(repeat('a', EmailValidator.MAX_LENGTH - domain.length()) + domain));
+        Assert.assertFalse(ValidationUtil.isValidEmail(repeat('a', EmailValidator.MAX_LENGTH - domain.length() + 1) + domain));
+    }
+
+    /**
+     * Test that inputs known to cause catastrophic backtracking in regular expression validators are handled in
+     * bounded time.
+     */
+    @Test(timeout = 2000)
+    public void testAdversarialEmails() {
+        String[] adversarial = {
+                "a@" + repeat('a', 250) + "!",
+                "a@" + repeat("a-", 125) + "!",
+                "a@" + repeat("a.", 126),
+                repeat('.', 255) + "@",
+                repeat('a', 10_000_000) + "@example.com"
+        };
+
+        for (int round = 0; round < 1000; round++) {
+            for (String email : adversarial) {
+                Assert.assertFalse(ValidationUtil.isValidEmail(email));
+            }
+        }
+    }
+
+    /**
+     * Test bulk validation, both sequential and parallel (above threshold), including non-random-access lists.
+     */
+    @Test
+    public void testBulkValidation() {
+        for (int size : new int[]{0, 5, ValidationUtil.PARALLEL_THRESHOLD * 3 + 17}) {
+            List<CharSequence> emails = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                emails.add(row % 3 == 0 ? null : row % 3 == 1 ? "user" + row + "@example.com" : "user" + row);
+            }
+
+            for (List<CharSequence> list : Arrays.<List<CharSequence>>asList(emails, new LinkedList<>(emails))) {
+                BulkValidationResult result = ValidationUtil.validateEmails(list);
+                Assert.assertEquals(size, result.size());
+                Assert.assertEquals(size / 3 + (size % 3 == 2 ? 1 : 0), result.getValidCount());
+                Assert.assertEquals(size - result.getValidCount(), result.getInvalidCount());
+                for (int row = 0; row < size; row++) {
+                    Assert.assertEquals(row % 3 == 1, result.isValid(row));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test validation of character sequences that are views over a shared buffer.
+     */
+    @Test
+    public void testSliceValidation() {
+        char[] buffer = "1,john@example.com,x@y\n".toCharArray();
+        Assert.assertTrue(ValidationUtil.isValidEmail(CharBuffer.wrap(buffer), 2, 18));
+        Assert.assertFalse(ValidationUtil.isValidEmail(CharBuffer.wrap(buffer), 19, 22));
+
+        BulkValidationResult result = ValidationUtil.validateEmails(new CharSequence[]{
+                CharBuffer.wrap(buffer, 2, 16), CharBuffer.wrap(buffer, 19, 3)});
+        Assert.assertTrue(result.isValid(0));
+        Assert.assertFalse(result.isValid(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullEmail() {
+        ValidationUtil.isValidEmail(null);
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder buf = new StringBuilder(str.length() * count);
+        for (int index = 0; index < count; index++) {
+            buf.append(str);
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package gcommon.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link AnnotationUtils} and {@link AnnotationIndex}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class AnnotationUtilsTest {
+
+    /**
+     * Test that annotated methods are found, and that repeated look-ups are served from cache.
+     */
+    @Test
+    public void testFindAnnotatedMethod() {
+        Method[] methods = AnnotationUtils.findAnnotatedMethod(new Listener(), OnEvent.class);
+        Assert.assertEquals(2, methods.length);
+        for (Method method : methods) {
+            Assert.assertTrue(method.isAnnotationPresent(OnEvent.class));
+        }
+
+        List<Method> first = AnnotationUtils.getAnnotatedMethods(new Listener(), OnEvent.class);
+        Assert.assertSame(first, AnnotationUtils.getAnnotatedMethods(Listener.class, OnEvent.class));
+        Assert.assertEquals(0, AnnotationUtils.findAnnotatedMethod(new Object(), OnEvent.class).length);
+    }
+
+    /**
+     * Test look-ups via a multi-type index, including types outside the index.
+     */
+    @Test
+    public void testAnnotationIndex() {
+        AnnotationIndex index = AnnotationIndex.of(OnEvent.class, OnClose.class);
+        Assert.assertEquals(2, index.getAnnotatedMethods(new Listener(), OnEvent.class).size());
+        Assert.assertEquals("close", index.getAnnotatedMethods(Listener.class, OnClose.class).get(0).getName());
+        Assert.assertTrue(index.getAnnotatedMethods(Object.class, OnEvent.class).isEmpty());
+
+        AnnotationIndex partial = AnnotationIndex.of(OnClose.class);
+        Assert.assertEquals(2, partial.getAnnotatedMethods(Listener.class, OnEvent.class).size());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface OnEvent {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface OnClose {
+    }
+
+    public static class Listener {
+
+        @OnEvent
+        public void first() {
+        }
+
+        @OnEvent
+        public void second(String event) {
+        }
+
+        @OnClose
+        public void close() {
+        }
+
+        public void other() {
+        }
+    }
+}
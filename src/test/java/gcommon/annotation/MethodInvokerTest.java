@@ -0,0 +1,109 @@
+package gcommon.annotation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MethodInvoker}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class MethodInvokerTest {
+
+    /**
+     * Test invocation of annotated methods, including primitive parameters and results.
+     */
+    @Test
+    public void testInvokeAnnotatedMethods() throws Exception {
+        Counter counter = new Counter();
+        List<MethodInvoker> invokers = MethodInvoker.forAnnotatedMethods(counter, Handler.class);
+        Assert.assertEquals(2, invokers.size());
+
+        MethodInvoker add = invokers.get(0).getMethod().getName().equals("add") ? invokers.get(0) : invokers.get(1);
+        MethodInvoker reset = add == invokers.get(0) ? invokers.get(1) : invokers.get(0);
+        Assert.assertEquals(5L, add.invoke(5));
+        Assert.assertEquals(7L, add.invoke(2));
+        Assert.assertNull(reset.invoke());
+        Assert.assertEquals(0L, counter.total);
+    }
+
+    /**
+     * Test error reporting: argument mismatch versus exceptions thrown by the method itself.
+     */
+    @Test
+    public void testErrors() throws Exception {
+        MethodInvoker invoker = MethodInvoker.of(new Counter(), Counter.class.getMethod("add", int.class));
+        assertIllegalArgument(invoker);
+        assertIllegalArgument(invoker, "text");
+        assertIllegalArgument(invoker, (Object) null);
+        assertIllegalArgument(invoker, 1, 2);
+
+        MethodInvoker failing = MethodInvoker.of(new Counter(), Counter.class.getMethod("fail"));
+        try {
+            failing.invoke();
+            Assert.fail("Expected InvocationTargetException.");
+        } catch (InvocationTargetException ex) {
+            Assert.assertTrue(ex.getCause() instanceof ClassCastException);
+        }
+    }
+
+    /**
+     * Test that a method of a JDK-internal class is either invoked (Java 8, where all classes can be opened) or
+     * rejected with {@link IllegalArgumentException} (Java 16+, where java.base is not open to this library).
+     */
+    @Test
+    public void testInaccessibleMethod() throws Exception {
+        List<Integer> list = Collections.unmodifiableList(Arrays.asList(1, 2, 3));
+        Method size = list.getClass().getMethod("size");
+        Assert.assertFalse(Modifier.isPublic(size.getDeclaringClass().getModifiers()));
+        try {
+            Assert.assertEquals(3, MethodInvoker.of(list, size).invoke());
+        } catch (IllegalArgumentException ex) {
+            Assert.assertTrue(ex.getMessage().startsWith("Method is not accessible"));
+        }
+    }
+
+    private static void assertIllegalArgument(MethodInvoker invoker, Object... args) throws Exception {
+        try {
+            invoker.invoke(args);
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+    }
+
+    @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+    public @interface Handler {
+    }
+
+    /**
+     * A package-private class, exercising access of public methods on non-public classes.
+     */
+    static class Counter {
+
+        long total;
+
+        @Handler
+        public long add(int value) {
+            total += value;
+            return total;
+        }
+
+        @Handler
+        public void reset() {
+            total = 0;
+        }
+
+        public void fail() {
+            Object value = "text";
+            ((Integer) value).intValue();
+        }
+    }
+}
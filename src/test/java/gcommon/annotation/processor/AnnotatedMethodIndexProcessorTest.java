@@ -0,0 +1,81 @@
+package gcommon.annotation.processor;
+
+import gcommon.annotation.AnnotationUtils;
+import gcommon.annotation.AnnotationUtilsTest;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link AnnotatedMethodIndexProcessor}, and for reading of generated index by {@link AnnotationUtils}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class AnnotatedMethodIndexProcessorTest {
+
+    private static final String ON_EVENT = AnnotationUtilsTest.OnEvent.class.getName();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Compile a bean with the processor, verify generated index, and verify {@link AnnotationUtils} resolves methods
+     * from the index rather than via reflection.
+     */
+    @Test
+    public void testGenerateAndReadIndex() throws Exception {
+        File sources = folder.newFolder("src");
+        File classes = folder.newFolder("classes");
+        Path source = sources.toPath().resolve("Bean.java");
+        Files.write(source, ("package sample;\n"
+                + "public class Bean {\n"
+                + "    @" + ON_EVENT.replace('$', '.') + " public void onEvent(String[] events, int count) { }\n"
+                + "    public void other() { }\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", AnnotatedMethodIndexProcessor.class.getName(),
+                "-A" + AnnotatedMethodIndexProcessor.ANNOTATIONS_OPTION + "=" + ON_EVENT,
+                "-d", classes.getPath(),
+                source.toString());
+        Assert.assertEquals(0, result);
+
+        Path index = classes.toPath().resolve(AnnotatedMethodIndexProcessor.INDEX_RESOURCE);
+        List<String> lines = Files.readAllLines(index, StandardCharsets.UTF_8);
+        Assert.assertEquals(Arrays.asList(
+                "annotation " + ON_EVENT,
+                "class sample.Bean",
+                "method " + ON_EVENT + " onEvent java.lang.String[],int"), lines);
+
+        // Tamper with the index, so an index-based look-up is distinguishable from a reflection-based one.
+        Files.write(index, Arrays.asList("annotation " + ON_EVENT, "class sample.Bean", "method " + ON_EVENT + " other"),
+                StandardCharsets.UTF_8);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> beanClass = classLoader.loadClass("sample.Bean");
+            List<Method> methods = AnnotationUtils.getAnnotatedMethods(beanClass, AnnotationUtilsTest.OnEvent.class);
+            Assert.assertEquals(1, methods.size());
+            Assert.assertEquals("other", methods.get(0).getName());
+
+            // Annotation types that are not indexed are resolved via reflection.
+            Assert.assertTrue(AnnotationUtils.getAnnotatedMethods(beanClass, AnnotationUtilsTest.OnClose.class)
+                    .isEmpty());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package gcommon.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link BoundedCache}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class BoundedCacheTest {
+
+    /**
+     * Test basic operations and statistics.
+     */
+    @Test
+    public void testPutAndGet() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        cache.put("a", "1");
+        Assert.assertEquals("1", cache.getIfPresent("a"));
+        Assert.assertNull(cache.getIfPresent("b"));
+        cache.put("a", "2");
+        Assert.assertEquals("2", cache.getIfPresent("a"));
+        Assert.assertEquals(1, cache.size());
+
+        cache.invalidate("a");
+        Assert.assertNull(cache.getIfPresent("a"));
+        Assert.assertEquals(0, cache.getWeight());
+
+        BoundedCache.Stats stats = cache.getStats();
+        Assert.assertEquals(2, stats.getHitCount());
+        Assert.assertEquals(2, stats.getMissCount());
+        Assert.assertEquals(0.5, stats.getHitRate(), 0.0);
+    }
+
+    /**
+     * Test that size is bounded, and that popular entries survive a scan of one-off keys.
+     */
+    @Test
+    public void testEviction() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int key = 0; key < 50; key++) {
+            cache.put(key, key);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                Assert.assertNotNull(cache.getIfPresent(key));
+            }
+        }
+
+        // Scan of one-off keys, while the popular keys remain in use.
+        for (int key = 1000; key < 11000; key++) {
+            cache.put(key, key);
+            cache.getIfPresent(key % 50);
+            Assert.assertTrue(cache.getWeight() <= 100);
+        }
+
+        int survivors = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key) != null) {
+                survivors++;
+            }
+        }
+        Assert.assertTrue("Survivors: " + survivors, survivors >= 45);
+        Assert.assertTrue(cache.getStats().getEvictionCount() >= 10000 - 50);
+    }
+
+    /**
+     * Test weight-based bounds.
+     */
+    @Test
+    public void testWeigher() {
+        BoundedCache<String, byte[]> cache = new BoundedCache<String, byte[]>(1000)
+                .withWeigher((key, value) -> value.length);
+        cache.put("small", new byte[100]);
+        cache.put("huge", new byte[1001]);
+        Assert.assertNull(cache.getIfPresent("huge"));
+        Assert.assertEquals(100, cache.getWeight());
+
+        for (int index = 0; index < 20; index++) {
+            cache.put("entry-" + index, new byte[300]);
+            Assert.assertTrue(cache.getWeight() <= 1000);
+        }
+    }
+
+    /**
+     * Test that frequency sketch is sized by number of entries, not by weight.
+     */
+    @Test
+    public void testSketchSizing() {
+        BoundedCache<Integer, byte[]> cache = new BoundedCache<Integer, byte[]>(1L << 30)
+                .withWeigher((key, value) -> value.length);
+        Assert.assertTrue(cache.getSketchWidth() <= 16);
+
+        for (int index = 0; index < 1000; index++) {
+            cache.put(index, new byte[1024]);
+        }
+        Assert.assertEquals(1000, cache.size());
+        Assert.assertTrue(cache.getSketchWidth() >= 1000 && cache.getSketchWidth() <= 2048);
+    }
+
+    /**
+     * Test default and per-entry expiration.
+     */
+    @Test
+    public void testExpiration() {
+        AtomicLong now = new AtomicLong();
+        BoundedCache<String, String> cache = new BoundedCache<String, String>(10)
+                .withExpireAfterWrite(10, TimeUnit.SECONDS);
+        cache.ticker = now::get;
+
+        cache.put("default", "value");
+        cache.put("short", "value", 1, TimeUnit.SECONDS);
+        cache.put("eternal", "value", 0, TimeUnit.SECONDS);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        Assert.assertNull(cache.getIfPresent("short"));
+        Assert.assertNotNull(cache.getIfPresent("default"));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertNull(cache.getIfPresent("default"));
+        Assert.assertNotNull(cache.getIfPresent("eternal"));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    /**
+     * Test that concurrent misses on the same key run a single load, and that load failures propagate.
+     */
+    @Test
+    public void testCoalescedLoad() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                futures.add(executor.submit(() -> cache.get("key", key -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    return "loaded";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> future : futures) {
+                Assert.assertEquals("loaded", future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, cache.getStats().getLoadCount());
+
+        try {
+            cache.get("failing", key -> {
+                throw new UnsupportedOperationException("Failed.");
+            });
+            Assert.fail("Expected UnsupportedOperationException.");
+        } catch (UnsupportedOperationException ex) {
+            // Expected.
+        }
+        Assert.assertEquals(1, cache.getStats().getLoadFailureCount());
+        Assert.assertNull(cache.get("null", key -> null));
+        Assert.assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,84 @@
+package gcommon.collections;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ConcurrentTree}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ConcurrentTreeTest {
+
+    /**
+     * Test basic node operations.
+     */
+    @Test
+    public void testNodeOperations() {
+        ConcurrentTree<String, Integer> tree = new ConcurrentTree<>();
+        ConcurrentTreeNode<String, Integer> api = tree.getRoot().add("api", 1);
+        api.add("v2", 3);
+        api.add("v1", 2);
+
+        Assert.assertSame(api, tree.getRoot().getOrAdd("api", 99));
+        Assert.assertEquals(Integer.valueOf(2), tree.getNode(new String[]{"api", "v1"}).getData());
+        Assert.assertEquals(Arrays.asList(2, 3), api.getChildrenData());
+        Assert.assertNull(tree.getNode(new String[]{"api", "v3"}));
+
+        Assert.assertNotNull(api.remove("v1"));
+        Assert.assertEquals(1, api.getChildrenCount());
+    }
+
+    /**
+     * Test that readers observe replaced subtrees atomically: either the entire previous subtree or the entire new
+     * one.
+     */
+    @Test(timeout = 10000)
+    public void testAtomicSubtreeReplacement() throws InterruptedException {
+        final ConcurrentTree<String, Integer> tree = new ConcurrentTree<>();
+        tree.getRoot().put("config", buildSubtree(0));
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(4);
+        for (int reader = 0; reader < 4; reader++) {
+            new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        ConcurrentTreeNode<String, Integer> config = tree.getNode(new String[]{"config"});
+                        int version = config.getData();
+                        for (String key : new String[]{"a", "b", "c"}) {
+                            int value = config.getNode(new String[]{key, "leaf"}).getData();
+                            if (value != version) {
+                                failure.set("Mixed versions: " + version + "/" + value);
+                            }
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        for (int version = 1; version <= 2000; version++) {
+            tree.getRoot().put("config", buildSubtree(version));
+        }
+        running.set(false);
+        done.await();
+
+        Assert.assertNull(failure.get());
+    }
+
+    private static ConcurrentTreeNode<String, Integer> buildSubtree(int version) {
+        ConcurrentTreeNode<String, Integer> subtree = new ConcurrentTreeNode<>(version);
+        for (String key : new String[]{"a", "b", "c"}) {
+            subtree.add(key, version).add("leaf", version);
+        }
+        return subtree;
+    }
+}
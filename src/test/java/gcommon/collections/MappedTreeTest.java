@@ -0,0 +1,132 @@
+package gcommon.collections;
+
+import gcommon.marshaller.JsonObjectMarshaller;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link MappedTree}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class MappedTreeTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Test that a written tree is read back with identical structure, keys and data.
+     */
+    @Test
+    public void testWriteAndOpen() throws IOException {
+        Tree<String, Integer> tree = new Tree<>();
+        TreeNode<String, Integer> a = tree.getRoot().add("a", 1);
+        a.add("b", 2).add("c", 3);
+        a.add("x", null);
+        for (int index = 0; index < 100; index++) {
+            tree.getRoot().add("k" + index, index);
+        }
+
+        Path file = folder.newFile().toPath();
+        MappedTree.write(tree, file, TreeCodec.strings(), TreeCodec.integers());
+        MappedTree<String, Integer> mapped = MappedTree.open(file, TreeCodec.strings(), TreeCodec.integers());
+
+        Assert.assertEquals(105, mapped.size());
+        Assert.assertEquals(101, mapped.getRoot().getChildrenCount());
+        Assert.assertNull(mapped.getRoot().getKey());
+        Assert.assertEquals(Integer.valueOf(3), mapped.getNode(new String[]{"a", "b", "c"}).getData());
+        Assert.assertEquals("c", mapped.getNode(new String[]{"a", "b", "c"}).getKey());
+        Assert.assertEquals(Integer.valueOf(57), mapped.getRoot().getNode("k57").getData());
+        Assert.assertNull(mapped.getNode(new String[]{"a", "x"}).getData());
+        Assert.assertNull(mapped.getNode(new String[]{"a", "y"}));
+        Assert.assertNull(mapped.getRoot().getNode((String) null));
+        Assert.assertEquals(new HashSet<>(Arrays.asList(2)), new HashSet<>(mapped.getNode(new String[]{"a"})
+                .getChildrenData()));
+    }
+
+    /**
+     * Test codec based on an object marshaller, and rejection of files that are not tree files.
+     */
+    @Test
+    public void testMarshallerCodecAndInvalidFile() throws IOException {
+        Tree<Long, String[]> tree = new Tree<>();
+        tree.getRoot().add(7L, new String[]{"x", "y"});
+
+        Path file = folder.newFile().toPath();
+        TreeCodec<String[]> codec = TreeCodec.marshaller(new JsonObjectMarshaller(), String[].class);
+        MappedTree.write(tree, file, TreeCodec.longs(), codec);
+        MappedTree<Long, String[]> mapped = MappedTree.open(file, TreeCodec.longs(), codec);
+        Assert.assertArrayEquals(new String[]{"x", "y"}, mapped.getRoot().getNode(7L).getData());
+        Assert.assertEquals(Long.valueOf(7L), mapped.getRoot().getNode(7L).getKey());
+
+        Path invalid = folder.newFile().toPath();
+        Files.write(invalid, "not a tree file at all".getBytes());
+        try {
+            MappedTree.open(invalid, TreeCodec.longs(), codec);
+            Assert.fail("Expected IOException.");
+        } catch (IOException ex) {
+            // Expected.
+        }
+    }
+
+    /**
+     * Test that rewriting a file replaces it atomically (existing mappings keep reading the previous version), and
+     * that corrupted files fail with I/O exceptions.
+     */
+    @Test
+    public void testRewriteAndCorruption() throws IOException {
+        Tree<String, Integer> first = new Tree<>();
+        first.getRoot().add("a", 1);
+        Tree<String, Integer> second = new Tree<>();
+        second.getRoot().add("a", 2);
+        second.getRoot().add("b", 3);
+
+        Path directory = folder.newFolder().toPath();
+        Path file = directory.resolve("tree.bin");
+        MappedTree.write(first, file, TreeCodec.strings(), TreeCodec.integers());
+        MappedTree<String, Integer> previous = MappedTree.open(file, TreeCodec.strings(), TreeCodec.integers());
+        MappedTree.write(second, file, TreeCodec.strings(), TreeCodec.integers());
+
+        Assert.assertEquals(Integer.valueOf(1), previous.getRoot().getNode("a").getData());
+        Assert.assertEquals(Integer.valueOf(2), MappedTree.open(file, TreeCodec.strings(), TreeCodec.integers())
+                .getRoot().getNode("a").getData());
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(1, files.count());
+        }
+
+        // Node count overflowing the file.
+        byte[] content = Files.readAllBytes(file);
+        ByteBuffer.wrap(content).putInt(8, 0x0AAAAAAB);
+        Path corrupted = folder.newFile().toPath();
+        Files.write(corrupted, content);
+        try {
+            MappedTree.open(corrupted, TreeCodec.strings(), TreeCodec.integers());
+            Assert.fail("Expected IOException.");
+        } catch (IOException ex) {
+            // Expected.
+        }
+
+        // Key offset of node 1 beyond end of file.
+        content = Files.readAllBytes(file);
+        ByteBuffer.wrap(content).putInt(16 + 24, Integer.MAX_VALUE - 1);
+        Files.write(corrupted, content);
+        MappedTree<String, Integer> mapped = MappedTree.open(corrupted, TreeCodec.strings(), TreeCodec.integers());
+        try {
+            mapped.getRoot().getNode("a");
+            Assert.fail("Expected UncheckedIOException.");
+        } catch (UncheckedIOException ex) {
+            Assert.assertTrue(ex.getMessage().contains("Corrupted"));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package gcommon.collections;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link RadixTree}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class RadixTreeTest {
+
+    /**
+     * Test insertion (including node splits), exact look-ups and removal (including node merges).
+     */
+    @Test
+    public void testPutGetRemove() {
+        RadixTree<String, Integer> tree = new RadixTree<>();
+        Assert.assertNull(tree.put(path("a/b/c/d"), 1));
+        Assert.assertNull(tree.put(path("a/b/x"), 2));
+        Assert.assertNull(tree.put(path("a/b"), 3));
+        Assert.assertEquals(Integer.valueOf(1), tree.put(path("a/b/c/d"), 4));
+        Assert.assertEquals(3, tree.size());
+
+        Assert.assertEquals(Integer.valueOf(4), tree.get(path("a/b/c/d")));
+        Assert.assertEquals(Integer.valueOf(2), tree.get(path("a/b/x")));
+        Assert.assertEquals(Integer.valueOf(3), tree.get(path("a/b")));
+        Assert.assertNull(tree.get(path("a/b/c")));
+        Assert.assertFalse(tree.containsPath(path("a")));
+        Assert.assertNull(tree.get(path("a/b/c/d/e")));
+
+        Assert.assertEquals(Integer.valueOf(2), tree.remove(path("a/b/x")));
+        Assert.assertNull(tree.remove(path("a/b/x")));
+        Assert.assertEquals(Integer.valueOf(3), tree.remove(path("a/b")));
+        Assert.assertEquals(1, tree.size());
+        Assert.assertEquals(Integer.valueOf(4), tree.get(path("a/b/c/d")));
+    }
+
+    /**
+     * Test longest-prefix matching.
+     */
+    @Test
+    public void testLongestPrefixMatch() {
+        RadixTree<String, String> tree = new RadixTree<>();
+        tree.put(path("api"), "api");
+        tree.put(path("api/v1/users"), "users");
+
+        Assert.assertEquals("api", tree.longestPrefixMatch(path("api/v1")));
+        Assert.assertEquals(1, tree.longestPrefixLength(path("api/v1")));
+        Assert.assertEquals("users", tree.longestPrefixMatch(path("api/v1/users/17")));
+        Assert.assertEquals(3, tree.longestPrefixLength(path("api/v1/users/17")));
+        Assert.assertNull(tree.longestPrefixMatch(path("web")));
+        Assert.assertEquals(-1, tree.longestPrefixLength(path("web")));
+    }
+
+    /**
+     * Test prefix iteration, including a prefix ending within a compressed node.
+     */
+    @Test
+    public void testPrefixIteration() {
+        Tree<String, Integer> source = new Tree<>();
+        source.getRoot().add("topics", null).add("sports", 1).add("football", 2).add("uk", 3);
+        source.getNode(path("topics")).add("news", 4);
+        RadixTree<String, Integer> tree = RadixTree.from(source);
+        Assert.assertEquals(4, tree.size());
+
+        Assert.assertEquals(3, collect(tree, "topics/sports").size());
+        Map<List<String>, Integer> football = collect(tree, "topics/sports/football");
+        Assert.assertEquals(2, football.size());
+        Assert.assertEquals(Integer.valueOf(3), football.get(Arrays.asList(path("topics/sports/football/uk"))));
+        Assert.assertEquals(4, collect(tree, "").size());
+        Assert.assertTrue(collect(tree, "topics/weather").isEmpty());
+    }
+
+    private static Map<List<String>, Integer> collect(RadixTree<String, Integer> tree, String prefix) {
+        Map<List<String>, Integer> result = new HashMap<>();
+        tree.forEachWithPrefix(path(prefix), result::put);
+        return result;
+    }
+
+    private static String[] path(String path) {
+        return path.isEmpty() ? new String[0] : path.split("/");
+    }
+}
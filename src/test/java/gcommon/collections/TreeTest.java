@@ -0,0 +1,223 @@
+package gcommon.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Tree} and {@link TreeNode}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class TreeTest {
+
+    /**
+     * Test look-ups and replacement across inline and hashed compact storage.
+     */
+    @Test
+    public void testCompactStorage() {
+        Tree<String, Integer> tree = new Tree<>();
+        TreeNode<String, Integer> root = tree.getRoot();
+        Assert.assertEquals(0, root.getChildrenCount());
+        Assert.assertTrue(root.getChildrenData().isEmpty());
+
+        for (int count = 1; count <= ChildStorage.INLINE_CAPACITY * 3; count++) {
+            root.add("k" + count, count);
+            Assert.assertEquals(count, root.getChildrenCount());
+            for (int index = 1; index <= count; index++) {
+                Assert.assertEquals(Integer.valueOf(index), root.getNode("k" + index).getData());
+            }
+            Assert.assertNull(root.getNode("missing"));
+        }
+
+        // Replace an existing key.
+        root.add("k2", 200).add("leaf", 201);
+        Assert.assertEquals(ChildStorage.INLINE_CAPACITY * 3, root.getChildrenCount());
+        Assert.assertEquals(Integer.valueOf(201), tree.getNode(new String[]{"k2", "leaf"}).getData());
+        Assert.assertTrue(new HashSet<>(root.getChildrenData()).contains(200));
+    }
+
+    /**
+     * Test that sorted storage iterates children by key order, and is inherited by descendants.
+     */
+    @Test
+    public void testSortedStorage() {
+        Tree<String, String> tree = new Tree<>(ChildStorage.SORTED);
+        TreeNode<String, String> node = tree.getRoot().add("b", "B");
+        tree.getRoot().add("c", "C");
+        tree.getRoot().add("a", "A");
+        tree.getRoot().add("n", null);
+
+        Assert.assertEquals(Arrays.asList("A", "B", "C"), tree.getRoot().getChildrenData());
+        Assert.assertEquals(ChildStorage.SORTED, node.add("x", "X").getStorage());
+    }
+
+    /**
+     * Test that a frozen snapshot mirrors the source tree, including keys with colliding hash codes.
+     */
+    @Test
+    public void testFreeze() {
+        Tree<String, Integer> tree = new Tree<>(ChildStorage.SORTED);
+        TreeNode<String, Integer> root = tree.getRoot();
+        for (int index = 0; index < 50; index++) {
+            root.add("k" + index, index).add("leaf", -index);
+        }
+        // "Aa" and "BB" share a hash code.
+        root.add("Aa", 100);
+        root.add("BB", 200);
+
+        FrozenTree<String, Integer> frozen = tree.freeze();
+        root.add("later", 300);
+
+        Assert.assertEquals(1 + 50 * 2 + 2, frozen.size());
+        Assert.assertEquals(tree.getRoot().getChildrenData().size() - 1, frozen.getRoot().getChildrenCount());
+        for (int index = 0; index < 50; index++) {
+            Assert.assertEquals(Integer.valueOf(-index), frozen.getNode(new String[]{"k" + index, "leaf"}).getData());
+        }
+        Assert.assertEquals(Integer.valueOf(100), frozen.getRoot().getNode("Aa").getData());
+        Assert.assertEquals(Integer.valueOf(200), frozen.getRoot().getNode("BB").getData());
+        Assert.assertEquals("k7", frozen.getRoot().getNode(new String[]{"k7"}).getKey());
+        Assert.assertNull(frozen.getNode(new String[]{"later"}));
+        Assert.assertNull(frozen.getNode(new String[]{"k1", "leaf", "deeper"}));
+
+        // Children data preserves source order.
+        List<Integer> expected = new ArrayList<>(tree.getRoot().getChildrenData());
+        expected.remove(Integer.valueOf(300));
+        Assert.assertEquals(expected, frozen.getRoot().getChildrenData());
+    }
+
+    /**
+     * Test depth-first and breadth-first traversal order, pruning and termination.
+     */
+    @Test
+    public void testTraversal() {
+        Tree<String, String> tree = new Tree<>(ChildStorage.SORTED);
+        TreeNode<String, String> a = tree.getRoot().add("a", "a");
+        a.add("a1", "a1").add("a11", "a11");
+        a.add("a2", "a2");
+        tree.getRoot().add("b", "b").add("b1", "b1");
+
+        List<String> visited = new ArrayList<>();
+        tree.depthFirst((key, node, depth) -> {
+            visited.add(key + "@" + depth);
+            return TreeVisitor.Result.CONTINUE;
+        });
+        Assert.assertEquals(Arrays.asList("null@0", "a@1", "a1@2", "a11@3", "a2@2", "b@1", "b1@2"), visited);
+
+        visited.clear();
+        tree.breadthFirst((key, node, depth) -> {
+            visited.add(key);
+            return "a".equals(key) ? TreeVisitor.Result.SKIP_SUBTREE : TreeVisitor.Result.CONTINUE;
+        });
+        Assert.assertEquals(Arrays.asList(null, "a", "b", "b1"), visited);
+
+        visited.clear();
+        tree.depthFirst((key, node, depth) -> {
+            visited.add(key);
+            return "a1".equals(key) ? TreeVisitor.Result.TERMINATE : TreeVisitor.Result.CONTINUE;
+        });
+        Assert.assertEquals(Arrays.asList(null, "a", "a1"), visited);
+    }
+
+    /**
+     * Test that sequential and parallel streams cover every node exactly once.
+     */
+    @Test
+    public void testStream() {
+        Tree<Integer, Integer> tree = new Tree<>();
+        int count = 1;
+        for (int first = 0; first < 20; first++) {
+            TreeNode<Integer, Integer> level1 = tree.getRoot().add(first, count++);
+            for (int second = 0; second < 30; second++) {
+                TreeNode<Integer, Integer> level2 = level1.add(second, count++);
+                for (int third = 0; third < 10; third++) {
+                    level2.add(third, count++);
+                }
+            }
+        }
+
+        Assert.assertEquals(count, tree.stream().count());
+        Assert.assertEquals(count - 1, tree.stream().parallel().filter(node -> node.getData() != null)
+                .mapToInt(TreeNode::getData).distinct().count());
+        Assert.assertEquals((long) (count - 1) * count / 2, tree.stream().parallel()
+                .filter(node -> node.getData() != null).mapToLong(TreeNode::getData).sum());
+    }
+
+    /**
+     * Test that a parallel stream over a large tree splits it into a number of chunks proportional to the parallelism,
+     * rather than to the number of nodes.
+     */
+    @Test
+    public void testParallelStreamSplitting() {
+        Tree<Integer, Integer> tree = new Tree<>();
+        List<TreeNode<Integer, Integer>> level = new ArrayList<>();
+        level.add(tree.getRoot());
+        int count = 1;
+        while (count < 100_000) {
+            List<TreeNode<Integer, Integer>> next = new ArrayList<>();
+            for (TreeNode<Integer, Integer> parent : level) {
+                for (int key = 0; key < 4; key++) {
+                    next.add(parent.add(key, count++));
+                }
+            }
+            level = next;
+        }
+
+        AtomicInteger splits = new AtomicInteger();
+        long visited = StreamSupport.stream(new CountingSpliterator<>(tree.stream().spliterator(), splits), true)
+                .count();
+
+        Assert.assertEquals(count, visited);
+        Assert.assertTrue("Splits: " + splits.get(),
+                splits.get() <= 16 * Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+    }
+
+    /**
+     * Spliterator counting splits of an underlying spliterator (and of its splits).
+     */
+    private static final class CountingSpliterator<T> implements Spliterator<T> {
+
+        private final Spliterator<T> spliterator;
+
+        private final AtomicInteger splits;
+
+        CountingSpliterator(Spliterator<T> spliterator, AtomicInteger splits) {
+            this.spliterator = spliterator;
+            this.splits = splits;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            return spliterator.tryAdvance(action);
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> split = spliterator.trySplit();
+            if (split == null) {
+                return null;
+            }
+            splits.incrementAndGet();
+            return new CountingSpliterator<>(split, splits);
+        }
+
+        @Override
+        public long estimateSize() {
+            return spliterator.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return spliterator.characteristics();
+        }
+    }
+}
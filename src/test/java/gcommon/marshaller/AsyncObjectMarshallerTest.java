@@ -0,0 +1,104 @@
+package gcommon.marshaller;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link AsyncObjectMarshaller}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class AsyncObjectMarshallerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Test asynchronous marshalling and unmarshalling, including failures.
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        AsyncObjectMarshaller marshaller = new AsyncObjectMarshaller(new JsonObjectMarshaller());
+        byte[] rawData = marshaller.marshal(Arrays.asList(1, 2, 3)).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), marshaller.unmarshal(rawData, List.class).get(10, TimeUnit.SECONDS));
+        Assert.assertNull(marshaller.marshal(null).get(10, TimeUnit.SECONDS));
+
+        try {
+            marshaller.unmarshal("not json".getBytes(), List.class).get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected ExecutionException.");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof MarshalException);
+        }
+    }
+
+    /**
+     * Test that a stream is delivered in order, without exceeding window.
+     */
+    @Test
+    public void testMarshalAll() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        JsonObjectMarshaller json = new JsonObjectMarshaller() {
+            @Override
+            public byte[] marshal(Object object) throws MarshalException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    return super.marshal(object);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        AsyncObjectMarshaller marshaller = new AsyncObjectMarshaller(json, executor);
+
+        List<Integer> source = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        List<String> delivered = new ArrayList<>();
+        marshaller.marshalAll(source.iterator(), 3, rawData -> delivered.add(new String(rawData)))
+                .get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(source.stream().map(String::valueOf).collect(Collectors.toList()), delivered);
+        Assert.assertTrue("Max in flight: " + maxInFlight.get(), maxInFlight.get() <= 3);
+
+        List<Integer> unmarshalled = new ArrayList<>();
+        List<byte[]> messages = source.stream().map(json::marshal).collect(Collectors.toList());
+        marshaller.unmarshalAll(messages.iterator(), Integer.class, 8, unmarshalled::add).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(source, unmarshalled);
+    }
+
+    /**
+     * Test that a stream stops upon failure.
+     */
+    @Test
+    public void testMarshalAllFailure() throws Exception {
+        AsyncObjectMarshaller marshaller = new AsyncObjectMarshaller(new JsonObjectMarshaller(), executor);
+        List<byte[]> messages = Arrays.asList("1".getBytes(), "oops".getBytes(), "3".getBytes());
+        List<Integer> delivered = new ArrayList<>();
+        try {
+            marshaller.unmarshalAll(messages.iterator(), Integer.class, 1, delivered::add).get(10, TimeUnit.SECONDS);
+            Assert.fail("Expected ExecutionException.");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof MarshalException);
+        }
+        Assert.assertEquals(Arrays.asList(1), delivered);
+
+        // Empty stream completes immediately.
+        Assert.assertTrue(marshaller.marshalAll(new ArrayList<>().iterator(), 4, rawData -> {
+        }).isDone());
+    }
+}
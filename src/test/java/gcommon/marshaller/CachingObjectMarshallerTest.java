@@ -0,0 +1,131 @@
+package gcommon.marshaller;
+
+import gcommon.objects.ObjectBase;
+import gcommon.objects.ObjectsBag;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link CachingObjectMarshaller}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class CachingObjectMarshallerTest {
+
+    private final AtomicInteger marshalCalls = new AtomicInteger();
+
+    private final AtomicInteger unmarshalCalls = new AtomicInteger();
+
+    /**
+     * JSON marshaller, counting calls.
+     */
+    private final ObjectMarshaller delegate = new JsonObjectMarshaller() {
+        @Override
+        public byte[] marshal(Object object) throws MarshalException {
+            marshalCalls.incrementAndGet();
+            return super.marshal(object);
+        }
+
+        @Override
+        public <T> T unmarshal(byte[] rawData, int offset, int length, Class<T> clazz) throws MarshalException {
+            unmarshalCalls.incrementAndGet();
+            return super.unmarshal(rawData, offset, length, clazz);
+        }
+    };
+
+    /**
+     * Test that objects are keyed by identity, and that callers cannot modify cached bytes.
+     */
+    @Test
+    public void testIdentityKeyedMarshalling() {
+        CachingObjectMarshaller marshaller = new CachingObjectMarshaller(delegate, 1024 * 1024);
+        Map<String, String> config = new HashMap<>(Collections.singletonMap("key", "value"));
+
+        byte[] first = marshaller.marshal(config);
+        first[0] = 0;
+        byte[] second = marshaller.marshal(config);
+        Assert.assertArrayEquals(delegate.marshal(config), second);
+        Assert.assertEquals(2, marshalCalls.get());
+
+        // An equal, but distinct, object is marshalled again.
+        marshaller.marshal(new HashMap<>(config));
+        Assert.assertEquals(3, marshalCalls.get());
+        Assert.assertEquals(1, marshaller.getMarshalStats().getHitCount());
+        Assert.assertNull(marshaller.marshal(null));
+    }
+
+    /**
+     * Test that object-bag aware objects are keyed by value.
+     */
+    @Test
+    public void testValueKeyedMarshalling() {
+        CachingObjectMarshaller marshaller = new CachingObjectMarshaller(delegate, 1024 * 1024);
+        byte[] rawData = marshaller.marshal(new Currency("USD", 2));
+        Assert.assertArrayEquals(rawData, marshaller.marshal(new Currency("USD", 2)));
+        Assert.assertEquals(1, marshalCalls.get());
+
+        marshaller.marshal(new Currency("JPY", 0));
+        Assert.assertEquals(2, marshalCalls.get());
+    }
+
+    /**
+     * Test that repeated messages are unmarshalled once, when enabled.
+     */
+    @Test
+    public void testUnmarshalling() {
+        CachingObjectMarshaller marshaller = new CachingObjectMarshaller(delegate, 1024, 1024);
+        byte[] rawData = delegate.marshal(new Currency("EUR", 2));
+
+        Currency first = marshaller.unmarshal(rawData, Currency.class);
+        Assert.assertEquals(new Currency("EUR", 2), first);
+        Assert.assertSame(first, marshaller.unmarshal(rawData.clone(), Currency.class));
+
+        // Same content within a larger buffer.
+        byte[] framed = new byte[rawData.length + 2];
+        System.arraycopy(rawData, 0, framed, 1, rawData.length);
+        Assert.assertSame(first, marshaller.unmarshal(framed, 1, rawData.length, Currency.class));
+        Assert.assertEquals(1, unmarshalCalls.get());
+
+        // Unmarshalled objects are not cached by default.
+        CachingObjectMarshaller marshalOnly = new CachingObjectMarshaller(delegate, 1024);
+        Assert.assertNotSame(marshalOnly.unmarshal(rawData, Currency.class),
+                marshalOnly.unmarshal(rawData, Currency.class));
+        Assert.assertNull(marshalOnly.getUnmarshalStats());
+    }
+
+    /**
+     * Sample immutable bean.
+     */
+    public static class Currency extends ObjectBase {
+
+        private String code;
+
+        private int decimals;
+
+        public Currency() {
+        }
+
+        Currency(String code, int decimals) {
+            this.code = code;
+            this.decimals = decimals;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public int getDecimals() {
+            return decimals;
+        }
+
+        @Override
+        public ObjectsBag objectsBag() {
+            return new ObjectsBag(code, decimals);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package gcommon.metrics;
+
+import gcommon.marshaller.JsonObjectMarshaller;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Metrics}, {@link MetricsRegistry}, {@link Counter} and {@link Histogram}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class MetricsTest {
+
+    @After
+    public void tearDown() {
+        Metrics.setEnabled(false);
+    }
+
+    /**
+     * Test that nothing is recorded while instrumentation is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        Metrics.setEnabled(false);
+        Counter counter = new Counter();
+        Histogram histogram = new Histogram();
+        counter.increment();
+        histogram.record(10);
+        histogram.recordSince(Metrics.startTime());
+
+        Assert.assertEquals(0, Metrics.startTime());
+        Assert.assertEquals(0, counter.getCount());
+        Assert.assertEquals(0, histogram.getCount());
+    }
+
+    /**
+     * Test that bucket bounds are contiguous, cover the entire range and hold their values within 12.5%.
+     */
+    @Test
+    public void testBuckets() {
+        Assert.assertEquals(0, Histogram.lowerBoundOf(0));
+        Assert.assertEquals(Long.MAX_VALUE, Histogram.upperBoundOf(Histogram.BUCKET_COUNT - 1));
+        for (int index = 0; index < Histogram.BUCKET_COUNT - 1; index++) {
+            long lower = Histogram.lowerBoundOf(index);
+            long upper = Histogram.upperBoundOf(index);
+            Assert.assertEquals(upper + 1, Histogram.lowerBoundOf(index + 1));
+            Assert.assertEquals(index, Histogram.bucketOf(lower));
+            Assert.assertEquals(index, Histogram.bucketOf(upper));
+            Assert.assertTrue(upper - lower <= lower / 8);
+        }
+    }
+
+    /**
+     * Test histogram statistics and percentiles.
+     */
+    @Test
+    public void testHistogram() {
+        Metrics.setEnabled(true);
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        Assert.assertEquals(1001, histogram.getCount());
+        Assert.assertEquals(500500, histogram.getSum());
+        Assert.assertEquals(1000, histogram.getMax());
+        Assert.assertEquals(0, histogram.getPercentile(0));
+        Assert.assertEquals(1000, histogram.getPercentile(100));
+        long median = histogram.getPercentile(50);
+        Assert.assertTrue("Median: " + median, median >= 500 && median <= 500 * 9 / 8);
+
+        List<Long> counts = new ArrayList<>();
+        histogram.forEachBucket((lower, upper, count) -> counts.add(count));
+        Assert.assertEquals(1001, counts.stream().mapToLong(Long::longValue).sum());
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getPercentile(99));
+    }
+
+    /**
+     * Test registry look-up, type conflicts and visiting.
+     */
+    @Test
+    public void testRegistry() {
+        Metrics.setEnabled(true);
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("events").add(3);
+        registry.histogram("sizes").record(100);
+        Assert.assertSame(registry.counter("events"), registry.counter("events"));
+        try {
+            registry.histogram("events");
+            Assert.fail("Expected IllegalArgumentException.");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+
+        List<String> visited = new ArrayList<>();
+        registry.visit(new MetricsVisitor() {
+            @Override
+            public void visitCounter(String name, Counter counter) {
+                visited.add(name + "=" + counter.getCount());
+            }
+
+            @Override
+            public void visitHistogram(String name, Histogram histogram) {
+                visited.add(name + "=" + histogram.getMax());
+            }
+        });
+        visited.sort(null);
+        Assert.assertEquals("[events=3, sizes=100]", visited.toString());
+    }
+
+    /**
+     * Test that library components report to the process-wide registry.
+     */
+    @Test
+    public void testComponentInstrumentation() {
+        Metrics.setEnabled(true);
+        Histogram sizes = Metrics.histogram("gcommon.marshaller.json.marshal.bytes");
+        long count = sizes.getCount();
+
+        byte[] rawData = new JsonObjectMarshaller().marshal("payload");
+        Assert.assertEquals(count + 1, sizes.getCount());
+        Assert.assertTrue(sizes.getMax() >= rawData.length);
+    }
+}
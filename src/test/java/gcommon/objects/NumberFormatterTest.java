@@ -1,5 +1,7 @@
 package gcommon.objects;
 
+import java.math.BigDecimal;
+import java.util.Random;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -51,5 +53,26 @@ public class NumberFormatterTest {
         Assert.assertEquals("123,456.789000K", result);
     }
 
-
+    /**
+     * Test that formatting of {@code long} values (fast path) yields identical output to formatting of
+     * {@link BigDecimal} values, across configurations.
+     */
+    @Test
+    public void testLongFormattingMatchesBigDecimal() {
+        NumberFormatter[] formatters = {
+                new NumberFormatter(),
+                new NumberFormatter().withDecimalKilo(),
+                new NumberFormatter().withMaxDigits(3).withMaxDecimalDigits(0),
+                new NumberFormatter().withMaxDigits(1),
+                new NumberFormatter().withMaxDigits(4).withDecimalPadding().withMaxDecimalDigits(3),
+                new NumberFormatter().withMaxDigits(12).withMaxDecimalDigits(9)};
+        Random random = new Random(7);
+        for (int index = 0; index < 2000; index++) {
+            long value = index < 6 ? new long[]{0, -1, Long.MAX_VALUE, Long.MIN_VALUE, 999999, 1000000}[index]
+                    : random.nextLong() >> random.nextInt(64);
+            for (NumberFormatter formatter : formatters) {
+                Assert.assertEquals(formatter.format(BigDecimal.valueOf(value)), formatter.format(value));
+            }
+        }
+    }
 }
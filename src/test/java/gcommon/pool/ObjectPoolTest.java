@@ -0,0 +1,109 @@
+package gcommon.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ObjectPool}.
+ *
+ * @author Guy Raz Nir
+ * @since 19/10/2026
+ */
+public class ObjectPoolTest {
+
+    /**
+     * Test that released objects are reset and reused, and that overflow is bounded.
+     */
+    @Test
+    public void testReuse() {
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<StringBuilder> pool = new ObjectPool<>("test", () -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        }, buf -> buf.setLength(0), 2);
+
+        StringBuilder buf = pool.acquire();
+        buf.append("dirty");
+        pool.release(buf);
+        Assert.assertSame(buf, pool.acquire());
+        Assert.assertEquals(0, buf.length());
+        Assert.assertEquals(1, created.get());
+
+        // One object goes to thread's slot, two to overflow, and the last one is dropped.
+        List<StringBuilder> acquired = new ArrayList<>();
+        acquired.add(buf);
+        for (int index = 0; index < 3; index++) {
+            acquired.add(pool.acquire());
+        }
+        acquired.forEach(pool::release);
+        Assert.assertEquals(4, created.get());
+        Assert.assertEquals(2, pool.getIdleCount());
+
+        pool.clear();
+        Assert.assertEquals(0, pool.getIdleCount());
+        pool.acquire();
+        Assert.assertEquals(5, created.get());
+    }
+
+    /**
+     * Test that an object is never handed to two threads at the same time.
+     */
+    @Test
+    public void testConcurrentUse() throws Exception {
+        ObjectPool<AtomicInteger> pool = new ObjectPool<>("test", AtomicInteger::new, null, 4);
+        Set<AtomicInteger> all = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int task = 0; task < 8; task++) {
+                futures.add(executor.submit(() -> {
+                    for (int iteration = 0; iteration < 10_000; iteration++) {
+                        AtomicInteger inUse = pool.acquire();
+                        all.add(inUse);
+                        Assert.assertEquals(1, inUse.incrementAndGet());
+                        inUse.decrementAndGet();
+                        pool.release(inUse);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // At most one object per thread, plus contention misses.
+        Assert.assertTrue("Created: " + all.size(), all.size() < 100);
+    }
+
+    /**
+     * Test that objects collected without being released are reported in debug mode.
+     */
+    @Test
+    public void testLeakDetection() throws Exception {
+        ObjectPool<Object> pool = new ObjectPool<>("test", Object::new);
+        List<Throwable> leaks = new ArrayList<>();
+        pool.setLeakHandler(leaks::add);
+        pool.setLeakDetection(true);
+
+        pool.release(pool.acquire());
+        pool.acquire();
+
+        for (int attempt = 0; attempt < 50 && leaks.isEmpty(); attempt++) {
+            System.gc();
+            Thread.sleep(20);
+            pool.detectLeaks();
+        }
+        Assert.assertEquals(1, leaks.size());
+        Assert.assertTrue(leaks.get(0).getMessage().contains("never released"));
+    }
+}